@@ -0,0 +1,81 @@
+package com.lawding.leavecalc;
+
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.domain.CalculationType;
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.holiday.InMemoryHolidayProvider;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 벤치마크 공통 입력 (DB, jar 스냅샷 미사용)
+ * <p>
+ * 기준일은 2025-06-30 으로 고정하고, 근속 개월 수와 특이사항 기간 수만 바꿔 가며 같은 입력을 재현합니다.
+ */
+public final class BenchmarkData {
+
+    public static final LocalDate REFERENCE_DATE = LocalDate.of(2025, 6, 30);
+
+    private static final MonthDay[] FIXED_HOLIDAYS = {
+        MonthDay.of(1, 1), MonthDay.of(3, 1), MonthDay.of(5, 5), MonthDay.of(6, 6),
+        MonthDay.of(8, 15), MonthDay.of(10, 3), MonthDay.of(10, 9), MonthDay.of(12, 25)};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 1990~2030년 고정 공휴일과 연도별 대체공휴일 3일 (seed 고정)
+     */
+    public static HolidayProvider holidays() {
+        Random random = new Random(20);
+        List<LocalDate> holidays = new ArrayList<>();
+        for (int year = 1990; year <= 2030; year++) {
+            for (MonthDay day : FIXED_HOLIDAYS) {
+                holidays.add(day.atYear(year));
+            }
+            for (int i = 0; i < 3; i++) {
+                holidays.add(LocalDate.ofYearDay(year, 1 + random.nextInt(365)));
+            }
+        }
+        return new InMemoryHolidayProvider(holidays);
+    }
+
+    /**
+     * @param tenureMonths 입사일부터 기준일까지의 개월 수
+     * @param periodCount  특이사항 기간 수 (출근처리, 결근처리, 소정근로제외 순으로 번갈아 배정)
+     */
+    public static AnnualLeaveContext context(CalculationType type, int tenureMonths,
+        int periodCount) {
+        LocalDate hireDate = REFERENCE_DATE.minusMonths(tenureMonths).plusDays(1);
+        return AnnualLeaveContext.builder()
+            .calculationType(type)
+            .fiscalYear(type == CalculationType.FISCAL_YEAR ? MonthDay.of(1, 1) : null)
+            .hireDate(hireDate)
+            .referenceDate(REFERENCE_DATE)
+            .nonWorkingPeriods(nonWorkingPeriods(hireDate, periodCount))
+            .companyHolidays(List.of(REFERENCE_DATE.minusMonths(2), REFERENCE_DATE.minusMonths(7)))
+            .build();
+    }
+
+    /**
+     * 입사일~기준일 사이에 고르게 흩어진 3~9일 길이의 기간
+     */
+    public static Map<Integer, List<DatePeriod>> nonWorkingPeriods(LocalDate hireDate,
+        int periodCount) {
+        Random random = new Random(periodCount);
+        long days = REFERENCE_DATE.toEpochDay() - hireDate.toEpochDay();
+        Map<Integer, List<DatePeriod>> periods = new HashMap<>();
+        for (int i = 0; i < periodCount; i++) {
+            LocalDate start = hireDate.plusDays(days * i / periodCount);
+            periods.computeIfAbsent(1 + i % 3, key -> new ArrayList<>())
+                .add(new DatePeriod(start, start.plusDays(2 + random.nextInt(7))));
+        }
+        return periods;
+    }
+}
@@ -0,0 +1,53 @@
+package com.lawding.leavecalc.calculator;
+
+import com.lawding.leavecalc.BenchmarkData;
+import com.lawding.leavecalc.domain.CalculationType;
+import com.lawding.leavecalc.domain.flow.context.MonthlyContext;
+import com.lawding.leavecalc.domain.flow.detail.CalculationDetail;
+import com.lawding.leavecalc.flow.HireDateFlow;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 월차 계산 (입사 1년 미만, 특이사항 기간 수별)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonthlyCalculatorBenchmark {
+
+    @Param({"3", "11"})
+    public int tenureMonths;
+
+    @Param({"0", "10", "100"})
+    public int periodCount;
+
+    private final MonthlyCalculator calculator = new MonthlyCalculator();
+    private MonthlyContext context;
+
+    @Setup
+    public void setUp() {
+        // 입사일 기준 흐름이 만든 월차 컨텍스트를 그대로 사용
+        context = (MonthlyContext) new HireDateFlow(BenchmarkData.holidays())
+            .process(BenchmarkData.context(CalculationType.HIRE_DATE, tenureMonths, periodCount))
+            .getContext();
+    }
+
+    @Benchmark
+    public CalculationDetail calculate() {
+        return calculator.calculate(context);
+    }
+}
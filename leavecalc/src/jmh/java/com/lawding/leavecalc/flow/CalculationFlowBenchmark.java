@@ -0,0 +1,63 @@
+package com.lawding.leavecalc.flow;
+
+import com.lawding.leavecalc.BenchmarkData;
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.domain.CalculationType;
+import com.lawding.leavecalc.domain.flow.FlowResult;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 산정 흐름 (근속 개월 수: 1년 미만 / 3년 이상 / 10년 이상, 특이사항 기간 수별)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalculationFlowBenchmark {
+
+    @Param({"8", "40", "130"})
+    public int tenureMonths;
+
+    @Param({"0", "10", "100"})
+    public int periodCount;
+
+    private HireDateFlow hireDateFlow;
+    private FiscalYearFlow fiscalYearFlow;
+    private AnnualLeaveContext hireDateContext;
+    private AnnualLeaveContext fiscalYearContext;
+
+    @Setup
+    public void setUp() {
+        HolidayProvider holidays = BenchmarkData.holidays();
+        hireDateFlow = new HireDateFlow(holidays);
+        fiscalYearFlow = new FiscalYearFlow(holidays);
+        hireDateContext = BenchmarkData.context(CalculationType.HIRE_DATE, tenureMonths,
+            periodCount);
+        fiscalYearContext = BenchmarkData.context(CalculationType.FISCAL_YEAR, tenureMonths,
+            periodCount);
+    }
+
+    @Benchmark
+    public FlowResult hireDateFlow() {
+        return hireDateFlow.process(hireDateContext);
+    }
+
+    @Benchmark
+    public FlowResult fiscalYearFlow() {
+        return fiscalYearFlow.process(fiscalYearContext);
+    }
+}
@@ -0,0 +1,142 @@
+package com.lawding.leavecalc.handler;
+
+import ch.qos.logback.classic.Level;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.Histogram;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 기록해 둔 요청 본문(NDJSON, 한 줄에 한 건, 배열이면 일괄 계산)을 지정한 동시성으로
+ * {@link AnnualLeaveCalculatorLambdaHandler#handleRequest} 에 그대로 재생해 지연 시간 분포를 측정합니다.
+ * <pre>
+ * ReplayHarness &lt;corpus.ndjson&gt; [concurrency] [requests] [warmupRequests]
+ * </pre>
+ * 공휴일(HOLIDAY_SOURCE=snapshot)과 플랫폼 집계(DAILY_USER_STORE=memory)는 DB 대신 메모리를 사용하도록
+ * ./gradlew replay 태스크가 환경변수를 지정합니다. 핸들러 로그는 replay.logLevel(기본 WARN) 로 낮춥니다.
+ * <p>
+ * 보고 항목: 처리량, 지연 시간 백분위수(HdrHistogram, µs), 요청당 할당 바이트, 200 이 아닌 응답 수
+ */
+public class ReplayHarness {
+
+    private static final Map<String, String> HEADERS = Map.of("x-platform", "web");
+    // 최대 60초까지 유효숫자 3자리로 기록
+    private static final long HIGHEST_TRACKABLE_NANOS = 60_000_000_000L;
+
+    private record Result(Histogram latencies, long allocatedBytes, long failures) {
+
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length > 4) {
+            throw new IllegalArgumentException(
+                "사용법: <corpus.ndjson> [concurrency] [requests] [warmupRequests]");
+        }
+        List<String> corpus = readCorpus(Path.of(args[0]));
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1])
+            : Runtime.getRuntime().availableProcessors();
+        long requests = args.length > 2 ? Long.parseLong(args[2]) : 100_000;
+        long warmupRequests = args.length > 3 ? Long.parseLong(args[3]) : requests / 10;
+
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.lawding.leavecalc"))
+            .setLevel(Level.toLevel(System.getProperty("replay.logLevel"), Level.WARN));
+
+        AnnualLeaveCalculatorLambdaHandler handler = new AnnualLeaveCalculatorLambdaHandler();
+        System.out.printf("corpus=%d건, concurrency=%d, warmup=%d, requests=%d%n", corpus.size(),
+            concurrency, warmupRequests, requests);
+
+        replay(handler, corpus, concurrency, warmupRequests);
+        long startNanos = System.nanoTime();
+        Result result = replay(handler, corpus, concurrency, requests);
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        Histogram latencies = result.latencies();
+        System.out.printf("처리량: %.1f req/s (%.2fs)%n", requests / elapsedSeconds,
+            elapsedSeconds);
+        System.out.printf("지연(µs): p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f mean=%.1f%n",
+            micros(latencies.getValueAtPercentile(50)), micros(latencies.getValueAtPercentile(90)),
+            micros(latencies.getValueAtPercentile(99)),
+            micros(latencies.getValueAtPercentile(99.9)), micros(latencies.getMaxValue()),
+            latencies.getMean() / 1_000);
+        System.out.printf("할당: %.0f B/req%n", (double) result.allocatedBytes() / requests);
+        System.out.printf("200 이 아닌 응답: %d건%n", result.failures());
+    }
+
+    private static List<String> readCorpus(Path path) throws IOException {
+        List<String> corpus = Files.readAllLines(path, StandardCharsets.UTF_8).stream()
+            .filter(line -> !line.isBlank())
+            .toList();
+        if (corpus.isEmpty()) {
+            throw new IllegalArgumentException("재생할 요청이 없습니다: " + path);
+        }
+        return corpus;
+    }
+
+    /**
+     * 스레드마다 다음 순번의 요청을 가져가 처리하고, 스레드별 분포와 할당량을 마지막에 합칩니다.
+     */
+    private static Result replay(AnnualLeaveCalculatorLambdaHandler handler, List<String> corpus,
+        int concurrency, long requests) throws Exception {
+        AtomicLong next = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> {
+                    com.sun.management.ThreadMXBean threads =
+                        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                    Histogram latencies = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+                    long failures = 0;
+                    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                    long index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent()
+                            .withHttpMethod("POST")
+                            .withPath("/annual-leave")
+                            .withHeaders(HEADERS)
+                            .withBody(corpus.get((int) (index % corpus.size())));
+                        long startNanos = System.nanoTime();
+                        APIGatewayProxyResponseEvent response = handler.handleRequest(event,
+                            new LocalContext("leavecalc-replay"));
+                        latencies.recordValue(
+                            Math.min(System.nanoTime() - startNanos, HIGHEST_TRACKABLE_NANOS));
+                        if (response.getStatusCode() != 200) {
+                            failures++;
+                        }
+                    }
+                    return new Result(latencies,
+                        threads.getCurrentThreadAllocatedBytes() - allocatedBefore, failures);
+                }));
+            }
+
+            Histogram latencies = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+            long allocatedBytes = 0;
+            long failures = 0;
+            for (Future<Result> future : futures) {
+                Result result = future.get();
+                latencies.add(result.latencies());
+                allocatedBytes += result.allocatedBytes();
+                failures += result.failures();
+            }
+            return new Result(latencies, allocatedBytes, failures);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
@@ -0,0 +1,110 @@
+package com.lawding.leavecalc.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.dto.AnnualLeaveResponse;
+import com.lawding.leavecalc.dto.request.AnnualLeaveRequest;
+import com.lawding.leavecalc.holiday.InMemoryHolidayProvider;
+import com.lawding.leavecalc.mapper.AnnualLeaveMapper;
+import com.lawding.leavecalc.strategy.factory.CalculationStrategyFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 요청 역직렬화와 응답 직렬화 방식 비교
+ * <ul>
+ *     <li>mapper*: 호출마다 ObjectMapper.readValue / writeValueAsString (기존 방식)</li>
+ *     <li>reader/writer: 미리 만든 ObjectReader / ObjectWriter</li>
+ *     <li>serializer: {@link AnnualLeaveResponseSerializer}</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /**
+     * MONTHLY: 월차 기록 목록, MONTHLY_AND_PRORATED: 중첩 상세, ANNUAL: 가장 작은 응답
+     */
+    @Param({"MONTHLY", "MONTHLY_AND_PRORATED", "ANNUAL"})
+    public String leaveType;
+
+    private String requestBody;
+    private AnnualLeaveResponse response;
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+
+    @Setup
+    public void setUp() throws Exception {
+        requestBody = switch (leaveType) {
+            case "MONTHLY" -> """
+                {"calculationType":1,"hireDate":"2024-03-15","referenceDate":"2025-03-10",
+                 "nonWorkingPeriods":[{"type":2,"startDate":"2024-06-03","endDate":"2024-06-05"},
+                                      {"type":3,"startDate":"2024-09-02","endDate":"2024-10-31"}],
+                 "companyHolidays":["2024-05-01","2024-12-31"]}""";
+            case "MONTHLY_AND_PRORATED" -> """
+                {"calculationType":2,"fiscalYear":"01-01","hireDate":"2024-04-08",
+                 "referenceDate":"2025-03-02","companyHolidays":["2024-05-01"]}""";
+            default -> """
+                {"calculationType":1,"hireDate":"2019-05-20","referenceDate":"2025-06-30"}""";
+        };
+        InMemoryHolidayProvider holidays = new InMemoryHolidayProvider(List.of(
+            LocalDate.of(2024, 5, 6), LocalDate.of(2024, 6, 6), LocalDate.of(2024, 8, 15),
+            LocalDate.of(2024, 10, 3), LocalDate.of(2025, 1, 28), LocalDate.of(2025, 3, 3)));
+        AnnualLeaveContext context = AnnualLeaveMapper.toContext(
+            mapper.readValue(requestBody, AnnualLeaveRequest.class));
+        response = AnnualLeaveResponse.of(
+            CalculationStrategyFactory.from(context, holidays).annualLeaveCalculate(context),
+            "3f2b8c4e-7a61-4d0e-9b55-0c2f7e1a9d34");
+        requestReader = mapper.readerFor(AnnualLeaveRequest.class);
+        responseWriter = mapper.writer();
+    }
+
+    @Benchmark
+    public AnnualLeaveRequest mapperReadValue() throws Exception {
+        return mapper.readValue(requestBody, AnnualLeaveRequest.class);
+    }
+
+    @Benchmark
+    public AnnualLeaveRequest readerReadValue() throws Exception {
+        return requestReader.readValue(requestBody);
+    }
+
+    @Benchmark
+    public String mapperWriteValueAsString() throws Exception {
+        return mapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public String writerWriteValueAsString() throws Exception {
+        return responseWriter.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public String serializerToJson() {
+        return AnnualLeaveResponseSerializer.toJson(response);
+    }
+}
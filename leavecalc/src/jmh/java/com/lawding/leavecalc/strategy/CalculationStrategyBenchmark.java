@@ -0,0 +1,65 @@
+package com.lawding.leavecalc.strategy;
+
+import com.lawding.leavecalc.BenchmarkData;
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.domain.CalculationType;
+import com.lawding.leavecalc.dto.AnnualLeaveResult;
+import com.lawding.leavecalc.flow.FiscalYearFlow;
+import com.lawding.leavecalc.flow.HireDateFlow;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 전체 계산 전략 (흐름 + 계산기 + 안내 문구, 직렬화 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalculationStrategyBenchmark {
+
+    @Param({"8", "40", "130"})
+    public int tenureMonths;
+
+    @Param({"0", "10", "100"})
+    public int periodCount;
+
+    private CalculationStrategy hireDateStrategy;
+    private CalculationStrategy fiscalYearStrategy;
+    private AnnualLeaveContext hireDateContext;
+    private AnnualLeaveContext fiscalYearContext;
+
+    @Setup
+    public void setUp() {
+        HolidayProvider holidays = BenchmarkData.holidays();
+        hireDateStrategy = new HireDateStrategy(new HireDateFlow(holidays));
+        fiscalYearStrategy = new FiscalYearStrategy(new FiscalYearFlow(holidays));
+        hireDateContext = BenchmarkData.context(CalculationType.HIRE_DATE, tenureMonths,
+            periodCount);
+        fiscalYearContext = BenchmarkData.context(CalculationType.FISCAL_YEAR, tenureMonths,
+            periodCount);
+    }
+
+    @Benchmark
+    public AnnualLeaveResult hireDateStrategy() {
+        return hireDateStrategy.annualLeaveCalculate(hireDateContext);
+    }
+
+    @Benchmark
+    public AnnualLeaveResult fiscalYearStrategy() {
+        return fiscalYearStrategy.annualLeaveCalculate(fiscalYearContext);
+    }
+}
@@ -0,0 +1,72 @@
+package com.lawding.leavecalc.util;
+
+import com.lawding.leavecalc.BenchmarkData;
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.DaySet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 소정근로일 계산 (산정 기간 길이, 특이사항 기간 수별)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnnualLeaveHelperBenchmark {
+
+    @Param({"12", "60", "240"})
+    public int tenureMonths;
+
+    @Param({"0", "10", "100"})
+    public int periodCount;
+
+    private DatePeriod accrualPeriod;
+    private Set<LocalDate> statutoryHolidays;
+    private WorkingDayCalendar calendar;
+    private List<DatePeriod> periods;
+
+    @Setup
+    public void setUp() {
+        LocalDate hireDate = BenchmarkData.REFERENCE_DATE.minusMonths(tenureMonths).plusDays(1);
+        accrualPeriod = new DatePeriod(hireDate, BenchmarkData.REFERENCE_DATE);
+        statutoryHolidays = BenchmarkData.holidays().findWeekdayHolidays(accrualPeriod);
+        calendar = WorkingDayCalendar.of(statutoryHolidays);
+        periods = BenchmarkData.nonWorkingPeriods(hireDate, periodCount).values().stream()
+            .flatMap(List::stream)
+            .toList();
+    }
+
+    /**
+     * 공휴일 목록으로 달력을 만드는 비용 포함 (흐름에서 산정 기간마다 호출하는 형태)
+     */
+    @Benchmark
+    public int countPrescribedWorkingDays() {
+        return AnnualLeaveHelper.countPrescribedWorkingDays(accrualPeriod, statutoryHolidays);
+    }
+
+    @Benchmark
+    public int countPrescribedWorkingDaysWithCalendar() {
+        return AnnualLeaveHelper.countPrescribedWorkingDays(accrualPeriod, calendar);
+    }
+
+    @Benchmark
+    public DaySet getWorkingDaysInPeriods() {
+        return AnnualLeaveHelper.getWorkingDaysInPeriods(accrualPeriod, periods, calendar);
+    }
+}
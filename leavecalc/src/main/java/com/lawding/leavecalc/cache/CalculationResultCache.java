@@ -0,0 +1,187 @@
+package com.lawding.leavecalc.cache;
+
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.dto.AnnualLeaveResult;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.mapper.AnnualLeaveMapper;
+import com.lawding.leavecalc.util.EnvUtils;
+import com.lawding.leavecalc.util.LogUtil;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+
+/**
+ * 같은 요청의 계산 결과를 재사용하는 컨테이너 단위 LRU/TTL 캐시입니다.
+ * <p>
+ * 계산 결과는 {@link AnnualLeaveContext} 와 공휴일 데이터로만 정해지므로, 정규화한 컨텍스트(기간 정렬, 회사휴일
+ * 중복 제거)와 공휴일 데이터 버전({@link HolidayProvider#version()})의 해시를 키로 사용합니다. 공휴일이 바뀌면 버전이
+ * 달라져 이전 결과는 더 이상 조회되지 않습니다.
+ * <p>
+ * 응답에 그대로 되돌려주는 요청 값(특이사항 기간, 회사휴일)은 적중 시 현재 요청으로 다시 채웁니다.
+ */
+public class CalculationResultCache {
+
+    private static final Logger logger = LogUtil.getLogger(CalculationResultCache.class);
+
+    record Key(long high, long low) {
+
+    }
+
+    private record Entry(AnnualLeaveResult result, long storedAtMillis) {
+
+    }
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<Key, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CalculationResultCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    CalculationResultCache(int maxEntries, Duration ttl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > CalculationResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 환경변수로 최대 건수(RESULT_CACHE_MAX_ENTRIES, 기본 1000, 0 이면 사용 안 함)와
+     * TTL(RESULT_CACHE_TTL_SECONDS, 기본 600초)을 설정합니다.
+     */
+    public static CalculationResultCache fromEnv() {
+        return new CalculationResultCache(
+            (int) Math.max(0, EnvUtils.getLong("RESULT_CACHE_MAX_ENTRIES", 1000)),
+            Duration.ofSeconds(Math.max(1, EnvUtils.getLong("RESULT_CACHE_TTL_SECONDS", 600))));
+    }
+
+    /**
+     * 캐시된 결과가 있으면 반환하고, 없으면 계산해 저장합니다. 계산 도중 공휴일 버전이 바뀐 경우에는 저장하지 않습니다.
+     *
+     * @param context         정규화할 요청 컨텍스트
+     * @param holidayProvider 계산에 사용하는 공휴일 조회 (버전 확인용)
+     * @param calculation     캐시에 없을 때 실행할 계산
+     */
+    public AnnualLeaveResult getOrCompute(AnnualLeaveContext context,
+        HolidayProvider holidayProvider, Supplier<AnnualLeaveResult> calculation) {
+        if (maxEntries <= 0) {
+            return calculation.get();
+        }
+        long version = holidayProvider.version();
+        Key key = key(context, version);
+        AnnualLeaveResult cached = find(key);
+        if (cached != null) {
+            logStats(true);
+            return withRequestValues(cached, context);
+        }
+        logStats(false);
+
+        AnnualLeaveResult result = calculation.get();
+        if (holidayProvider.version() == version) {
+            synchronized (entries) {
+                entries.put(key, new Entry(result, clock.millis()));
+            }
+        }
+        return result;
+    }
+
+    private AnnualLeaveResult find(Key key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (clock.millis() - entry.storedAtMillis() >= ttlMillis) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.result();
+        }
+    }
+
+    private void logStats(boolean hit) {
+        long hitCount = hit ? hits.incrementAndGet() : hits.get();
+        long missCount = hit ? misses.get() : misses.incrementAndGet();
+        logger.info("결과 캐시 {}: hits={}, misses={}, hitRate={}", hit ? "적중" : "미스", hitCount,
+            missCount, String.format("%.3f", (double) hitCount / (hitCount + missCount)));
+    }
+
+    /**
+     * 정규화한 컨텍스트와 공휴일 버전의 SHA-256 해시(앞 128비트)
+     */
+    static Key key(AnnualLeaveContext context, long holidayVersion) {
+        StringBuilder canonical = new StringBuilder(256)
+            .append(context.getCalculationType()).append('|')
+            .append(context.getFiscalYear()).append('|')
+            .append(context.getHireDate()).append('|')
+            .append(context.getReferenceDate()).append('|');
+
+        Map<Integer, List<DatePeriod>> periods = context.getNonWorkingPeriods();
+        if (periods != null) {
+            new TreeMap<>(periods).forEach((type, list) -> {
+                canonical.append(type).append(':');
+                list.stream()
+                    .sorted(Comparator.comparing(DatePeriod::startDate)
+                        .thenComparing(DatePeriod::endDate))
+                    .forEach(period -> canonical.append(period.startDate()).append('~')
+                        .append(period.endDate()).append(','));
+                canonical.append(';');
+            });
+        }
+        canonical.append('|');
+
+        List<LocalDate> companyHolidays = context.getCompanyHolidays();
+        if (companyHolidays != null) {
+            companyHolidays.stream().distinct().sorted()
+                .forEach(date -> canonical.append(date).append(','));
+        }
+        canonical.append('|').append(holidayVersion);
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new Key(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static AnnualLeaveResult withRequestValues(AnnualLeaveResult cached,
+        AnnualLeaveContext context) {
+        return new AnnualLeaveResult(
+            cached.calculationType(),
+            cached.fiscalYear(),
+            cached.hireDate(),
+            cached.referenceDate(),
+            AnnualLeaveMapper.toDtoList(context.getNonWorkingPeriods()),
+            AnnualLeaveMapper.toStringList(context.getCompanyHolidays()),
+            cached.leaveType(),
+            cached.calculationDetail(),
+            cached.explanations(),
+            cached.nonWorkingExplanations()
+        );
+    }
+}
@@ -0,0 +1,188 @@
+package com.lawding.leavecalc.cache;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.util.LogUtil;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+
+/**
+ * 컨테이너 단위로 공유되는 법정공휴일 캐시입니다.
+ * <p>
+ * 공휴일은 연 단위로 적재하며, 조회 기간에 걸친 연도 중 캐시에 없거나 TTL이 지난 연도만 한 번의 쿼리로 다시 읽어옵니다.
+ * 따뜻한(warm) 호출에서는 DB 조회 없이 메모리에서 응답합니다.
+ */
+public class HolidayCalendar {
+
+    private static final Logger logger = LogUtil.getLogger(HolidayCalendar.class);
+
+    private static final String TTL_ENV = "HOLIDAY_CACHE_TTL_MINUTES";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    /**
+     * 기간 [startDate, endDate] 의 공휴일을 원본 저장소에서 읽어오는 함수
+     */
+    @FunctionalInterface
+    public interface HolidayLoader {
+
+        Set<LocalDate> load(LocalDate startDate, LocalDate endDate);
+    }
+
+    private record YearEntry(Set<LocalDate> holidays, long loadedAtMillis) {
+
+    }
+
+    private final HolidayLoader loader;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<Integer, YearEntry> years = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    public HolidayCalendar(HolidayLoader loader, Duration ttl) {
+        this(loader, ttl, Clock.systemUTC());
+    }
+
+    HolidayCalendar(HolidayLoader loader, Duration ttl, Clock clock) {
+        this.loader = loader;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 환경변수(HOLIDAY_CACHE_TTL_MINUTES)로 TTL을 설정한 캐시를 생성합니다. 값이 없거나 잘못된 경우 24시간을 사용합니다.
+     */
+    public static HolidayCalendar fromEnv(HolidayLoader loader) {
+        return new HolidayCalendar(loader, resolveTtl(System.getenv(TTL_ENV)));
+    }
+
+    static Duration resolveTtl(String minutes) {
+        if (minutes == null || minutes.isBlank()) {
+            return DEFAULT_TTL;
+        }
+        try {
+            long value = Long.parseLong(minutes.trim());
+            return value > 0 ? Duration.ofMinutes(value) : DEFAULT_TTL;
+        } catch (NumberFormatException e) {
+            logger.warn("공휴일 캐시 TTL 설정이 올바르지 않아 기본값을 사용합니다: {}={}", TTL_ENV, minutes);
+            return DEFAULT_TTL;
+        }
+    }
+
+    /**
+     * 기존 조회 범위(종료일 다음날 포함)와 동일하게 [startDate, endDate + 1일] 의 공휴일을 반환합니다.
+     *
+     * @param period 조회 기간
+     * @return 기간 내 공휴일 (읽기 전용)
+     */
+    public Set<LocalDate> find(DatePeriod period) {
+        LocalDate from = period.startDate();
+        LocalDate to = period.endDate().plusDays(1);
+        if (to.isBefore(from)) {
+            return Set.of();
+        }
+        // 조회 중 invalidateAll() 로 캐시가 비워져도 적재·확인한 연도 항목으로 답한다
+        Map<Integer, YearEntry> loaded = ensureLoaded(from.getYear(), to.getYear());
+
+        Set<LocalDate> result = new HashSet<>();
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            for (LocalDate holiday : loaded.get(year).holidays()) {
+                if (!holiday.isBefore(from) && !holiday.isAfter(to)) {
+                    result.add(holiday);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * 캐시된 모든 연도를 비웁니다. 다음 조회 시 다시 적재됩니다.
+     */
+    public void invalidateAll() {
+        years.clear();
+        version.incrementAndGet();
+    }
+
+    /**
+     * @return 이미 적재한 연도의 공휴일이 다시 적재하면서 바뀌거나 캐시를 비울 때마다 증가하는 값
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * @return [firstYear, lastYear] 의 모든 연도 항목 (TTL 이 지나지 않은 캐시 항목 또는 새로 적재한 항목)
+     */
+    private Map<Integer, YearEntry> ensureLoaded(int firstYear, int lastYear) {
+        Map<Integer, YearEntry> fresh = new HashMap<>();
+        if (staleYears(firstYear, lastYear, fresh).isEmpty()) {
+            logger.debug("공휴일 캐시 적중: years={}~{}", firstYear, lastYear);
+            return fresh;
+        }
+        loadLock.lock();
+        try {
+            // 대기하는 동안 다른 스레드가 적재했을 수 있으므로 다시 확인
+            fresh.clear();
+            List<Integer> stale = staleYears(firstYear, lastYear, fresh);
+            if (stale.isEmpty()) {
+                return fresh;
+            }
+            int loadFrom = stale.get(0);
+            int loadTo = stale.get(stale.size() - 1);
+            Set<LocalDate> loaded = loader.load(LocalDate.of(loadFrom, 1, 1),
+                LocalDate.of(loadTo, 12, 31));
+
+            Map<Integer, Set<LocalDate>> byYear = new HashMap<>();
+            for (int year = loadFrom; year <= loadTo; year++) {
+                byYear.put(year, new HashSet<>());
+            }
+            for (LocalDate holiday : loaded) {
+                byYear.get(holiday.getYear()).add(holiday);
+            }
+            long now = clock.millis();
+            boolean changed = false;
+            for (Map.Entry<Integer, Set<LocalDate>> entry : byYear.entrySet()) {
+                YearEntry reloaded = new YearEntry(Set.copyOf(entry.getValue()), now);
+                YearEntry previous = years.put(entry.getKey(), reloaded);
+                fresh.put(entry.getKey(), reloaded);
+                changed |= previous != null && !previous.holidays().equals(entry.getValue());
+            }
+            if (changed) {
+                logger.info("공휴일 데이터 변경 감지: version={}", version.incrementAndGet());
+            }
+            logger.info("공휴일 캐시 적재: years={}~{}, count={}", loadFrom, loadTo, loaded.size());
+            return fresh;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * @param fresh TTL 이 지나지 않은 연도 항목을 담을 맵
+     * @return 적재가 필요한 연도 (없거나 TTL 이 지난 연도)
+     */
+    private List<Integer> staleYears(int firstYear, int lastYear, Map<Integer, YearEntry> fresh) {
+        long now = clock.millis();
+        List<Integer> stale = new ArrayList<>();
+        for (int year = firstYear; year <= lastYear; year++) {
+            YearEntry entry = years.get(year);
+            if (entry == null || now - entry.loadedAtMillis() >= ttlMillis) {
+                stale.add(year);
+            } else {
+                fresh.put(year, entry);
+            }
+        }
+        return stale;
+    }
+}
@@ -4,29 +4,27 @@ import static com.lawding.leavecalc.constant.AnnualLeaveConstants.MAX_MONTHLY_LE
 import static com.lawding.leavecalc.util.AnnualLeaveHelper.formatDouble;
 
 import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.DaySet;
 import com.lawding.leavecalc.domain.MonthlyLeaveRecord;
 import com.lawding.leavecalc.domain.flow.context.MonthlyContext;
 import com.lawding.leavecalc.domain.flow.detail.CalculationDetail;
 import com.lawding.leavecalc.domain.flow.detail.MonthlyDetail;
-import com.lawding.leavecalc.util.AnnualLeaveHelper;
+import com.lawding.leavecalc.util.WorkingDayCalendar;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class MonthlyCalculator implements LeaveCalculator<MonthlyContext> {
 
     @Override
     public CalculationDetail calculate(MonthlyContext context) {
         DatePeriod period = context.getAccrualPeriod();
-        Set<LocalDate> absentDays = context.getAbsentDays();
-        Set<LocalDate> excludedDays = new HashSet<>(context.getExcludedDays());
-        Set<LocalDate> companyHolidays = new HashSet<>(context.getCompanyHolidays());
-        Set<LocalDate> statutoryHolidays = context.getStatutoryHolidays();
-
-        excludedDays.addAll(companyHolidays);
+        // 월별 결근처리일, 소정근로제외일 수를 상수 시간에 구하기 위한 누적 색인
+        DaySet.Rank absentDays = context.getAbsentDays().rank();
+        DaySet.Rank excludedDays = context.getExcludedDays()
+            .union(context.getCompanyHolidays())
+            .rank();
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(context.getStatutoryHolidays());
 
         List<MonthlyLeaveRecord> records = new ArrayList<>();
         double totalMonthlyLeaves = 0.0;
@@ -40,25 +38,18 @@ public class MonthlyCalculator implements LeaveCalculator<MonthlyContext> {
                 break;
             }
 
-            // 간격 내 소정근로일
-            Set<LocalDate> prescribedSet = currentStart
-                .datesUntil(currentEnd.plusDays(1))
-                .filter(AnnualLeaveHelper::isWeekday)
-                .filter(day -> !statutoryHolidays.contains(day))
-                .collect(Collectors.toSet());
-
-            int denominator = prescribedSet.size();
+            // 간격 내 소정근로일 (결근처리일, 소정근로제외일은 이미 소정근로일만 담고 있음)
+            long from = currentStart.toEpochDay();
+            long to = currentEnd.toEpochDay();
+            int denominator = calendar.countWorkingDays(from, to);
             double granted = 0.0;
 
             if (denominator > 0) {
 
-                boolean hasAbsence = absentDays.stream()
-                    .anyMatch(prescribedSet::contains);
+                boolean hasAbsence = absentDays.countBetween(from, to) > 0;
 
                 if (!hasAbsence) {
-                    int excludedDay = (int) excludedDays.stream()
-                        .filter(prescribedSet::contains)
-                        .count();
+                    int excludedDay = excludedDays.countBetween(from, to);
 
                     int attendanceDays = denominator - excludedDay;
                     granted = (double) attendanceDays / denominator;
@@ -0,0 +1,91 @@
+package com.lawding.leavecalc.db;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lawding.leavecalc.exception.AnnualLeaveException;
+import com.lawding.leavecalc.exception.ErrorCode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * SigV4 서명에 사용할 AWS 자격 증명
+ *
+ * @param accessKeyId     액세스 키
+ * @param secretAccessKey 시크릿 키
+ * @param sessionToken    세션 토큰 (임시 자격 증명이 아니면 null)
+ */
+record AwsCredentials(String accessKeyId, String secretAccessKey, String sessionToken) {
+
+    private static final int ENDPOINT_TIMEOUT_MILLIS = 2_000;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Lambda 실행 환경의 자격 증명을 읽습니다.
+     * <p>
+     * 환경변수(AWS_ACCESS_KEY_ID 등)를 먼저 사용하고, 없으면 컨테이너 자격 증명 엔드포인트
+     * (AWS_CONTAINER_CREDENTIALS_FULL_URI)에서 받아옵니다. SnapStart 함수에는 환경변수 자격 증명이 주어지지 않습니다.
+     */
+    static AwsCredentials resolve() {
+        String accessKeyId = System.getenv("AWS_ACCESS_KEY_ID");
+        String secretAccessKey = System.getenv("AWS_SECRET_ACCESS_KEY");
+        if (!isBlank(accessKeyId) && !isBlank(secretAccessKey)) {
+            String sessionToken = System.getenv("AWS_SESSION_TOKEN");
+            return new AwsCredentials(accessKeyId, secretAccessKey,
+                isBlank(sessionToken) ? null : sessionToken);
+        }
+        String endpoint = System.getenv("AWS_CONTAINER_CREDENTIALS_FULL_URI");
+        if (isBlank(endpoint)) {
+            throw new AnnualLeaveException(ErrorCode.IAM_AUTH_CREDENTIALS_ERROR);
+        }
+        try {
+            return fetch(endpoint, authorizationToken());
+        } catch (IOException | RuntimeException e) {
+            throw new AnnualLeaveException(ErrorCode.IAM_AUTH_CREDENTIALS_ERROR);
+        }
+    }
+
+    private static AwsCredentials fetch(String endpoint, String authorization)
+        throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) URI.create(endpoint).toURL()
+            .openConnection();
+        connection.setConnectTimeout(ENDPOINT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(ENDPOINT_TIMEOUT_MILLIS);
+        if (authorization != null) {
+            connection.setRequestProperty("Authorization", authorization);
+        }
+        try (InputStream body = connection.getInputStream()) {
+            JsonNode node = MAPPER.readTree(body);
+            return new AwsCredentials(node.path("AccessKeyId").asText(),
+                node.path("SecretAccessKey").asText(),
+                node.hasNonNull("Token") ? node.get("Token").asText() : null);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static String authorizationToken() throws IOException {
+        String token = System.getenv("AWS_CONTAINER_AUTHORIZATION_TOKEN");
+        if (!isBlank(token)) {
+            return token;
+        }
+        String tokenFile = System.getenv("AWS_CONTAINER_AUTHORIZATION_TOKEN_FILE");
+        if (!isBlank(tokenFile)) {
+            return Files.readString(Path.of(tokenFile), StandardCharsets.UTF_8).trim();
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    public String toString() {
+        return "AwsCredentials[accessKeyId=" + accessKeyId + "]";
+    }
+}
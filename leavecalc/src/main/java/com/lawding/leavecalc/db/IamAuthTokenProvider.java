@@ -0,0 +1,99 @@
+package com.lawding.leavecalc.db;
+
+import com.lawding.leavecalc.exception.AnnualLeaveException;
+import com.lawding.leavecalc.exception.ErrorCode;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RDS IAM 인증 토큰을 발급하고 만료 직전까지 재사용합니다.
+ * <p>
+ * 토큰의 유효기간은 15분이며, 여유시간(1분)을 두고 새로 서명합니다. 토큰은 새 커넥션을 맺을 때만 필요하므로 이미 열린
+ * 커넥션은 토큰이 만료되어도 계속 사용할 수 있습니다.
+ * <p>
+ * 토큰은 rds-db:connect 요청을 SigV4 로 미리 서명한 URL 이며, AWS SDK 없이 {@link SigV4} 로 직접 만듭니다.
+ */
+public class IamAuthTokenProvider {
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofMinutes(15);
+    private static final Duration REFRESH_MARGIN = Duration.ofMinutes(1);
+
+    private static final String SERVICE = "rds-db";
+
+    private final String hostname;
+    private final int port;
+    private final String username;
+    private final String region;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private String cachedToken;
+    private long refreshAtMillis;
+
+    public IamAuthTokenProvider(String hostname, int port, String username, String region) {
+        this(hostname, port, username, region, Clock.systemUTC());
+    }
+
+    IamAuthTokenProvider(String hostname, int port, String username, String region,
+        Clock clock) {
+        if (region == null || region.isBlank()) {
+            throw new AnnualLeaveException(ErrorCode.IAM_AUTH_REGION_ERROR);
+        }
+        this.hostname = hostname;
+        this.port = port;
+        this.username = username;
+        this.region = region.trim();
+        this.clock = clock;
+    }
+
+    public String getToken() {
+        lock.lock();
+        try {
+            long now = clock.millis();
+            if (cachedToken == null || now >= refreshAtMillis) {
+                cachedToken = generate();
+                refreshAtMillis = now + TOKEN_LIFETIME.minus(REFRESH_MARGIN).toMillis();
+            }
+            return cachedToken;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시된 토큰을 버립니다. 인증 실패 후 재시도할 때 사용합니다.
+     */
+    public void invalidate() {
+        lock.lock();
+        try {
+            cachedToken = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 자격 증명을 조회해 새 토큰을 서명합니다.
+     */
+    String generate() {
+        AwsCredentials credentials = AwsCredentials.resolve();
+        try {
+            return generate(credentials);
+        } catch (Exception e) {
+            throw new AnnualLeaveException(ErrorCode.IAM_AUTH_TOKEN_FAILED);
+        }
+    }
+
+    /**
+     * @return {@code host:port/?Action=connect&DBUser=...&X-Amz-Signature=...}
+     */
+    String generate(AwsCredentials credentials) {
+        String host = hostname + ":" + port;
+        String query = SigV4.presign(credentials, region, SERVICE, "GET", host, "/",
+            Map.of("Action", "connect", "DBUser", username), TOKEN_LIFETIME, clock.instant(),
+            SigV4.EMPTY_PAYLOAD_HASH);
+        return host + "/?" + query;
+    }
+}
@@ -0,0 +1,193 @@
+package com.lawding.leavecalc.db;
+
+import com.lawding.leavecalc.util.LogUtil;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+
+/**
+ * 컨테이너 단위로 유지되는 소형 커넥션 풀입니다.
+ * <p>
+ * 반납된 커넥션은 유휴 목록에 보관했다가 다음 요청에서 검증 후 재사용합니다. Lambda 가 동결(freeze)된 사이 서버가 끊은
+ * 커넥션은 검증 단계에서 걸러지고 새 커넥션으로 교체됩니다.
+ * <p>
+ * 호출자는 기존과 동일하게 {@code try-with-resources} 로 커넥션을 닫으면 되며, 이때 물리 커넥션은 닫히지 않고 풀로
+ * 반납됩니다.
+ */
+public class RdsConnectionPool {
+
+    private static final Logger logger = LogUtil.getLogger(RdsConnectionPool.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /**
+     * 새 물리 커넥션을 여는 함수
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        Connection create() throws SQLException;
+    }
+
+    /**
+     * 풀 사용 통계
+     *
+     * @param hits       유휴 커넥션을 재사용한 횟수
+     * @param misses     유휴 커넥션이 없어 새로 연결한 횟수
+     * @param reconnects 유휴 커넥션 검증에 실패해 다시 연결한 횟수
+     */
+    public record PoolStats(long hits, long misses, long reconnects) {
+
+    }
+
+    private final ConnectionFactory factory;
+    private final int maxIdle;
+    private final Deque<Connection> idle = new ArrayDeque<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong reconnects = new AtomicLong();
+
+    public RdsConnectionPool(ConnectionFactory factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    public Connection borrow() throws SQLException {
+        Connection physical = pollIdle();
+        if (physical != null) {
+            if (isUsable(physical)) {
+                hits.incrementAndGet();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("DB 커넥션 재사용: {}", stats());
+                }
+                return wrap(physical);
+            }
+            closeQuietly(physical);
+            reconnects.incrementAndGet();
+            logger.info("유휴 DB 커넥션 검증 실패, 재연결: {}", stats());
+        } else {
+            misses.incrementAndGet();
+            logger.info("유휴 DB 커넥션 없음, 신규 연결: {}", stats());
+        }
+        return wrap(factory.create());
+    }
+
+    public PoolStats stats() {
+        return new PoolStats(hits.get(), misses.get(), reconnects.get());
+    }
+
+    /**
+     * 유휴 커넥션을 모두 닫습니다.
+     */
+    public void evictAll() {
+        Connection physical;
+        while ((physical = pollIdle()) != null) {
+            closeQuietly(physical);
+        }
+    }
+
+    private synchronized Connection pollIdle() {
+        return idle.pollFirst();
+    }
+
+    private void release(Connection physical) {
+        try {
+            if (physical.isClosed()) {
+                return;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            closeQuietly(physical);
+            return;
+        }
+        synchronized (this) {
+            if (idle.size() < maxIdle) {
+                idle.addFirst(physical);
+                return;
+            }
+        }
+        closeQuietly(physical);
+    }
+
+    private boolean isUsable(Connection physical) {
+        try {
+            return physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection physical) {
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            logger.warn("DB 커넥션 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private Connection wrap(Connection physical) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            new PooledConnectionHandler(physical));
+    }
+
+    /**
+     * close() 호출을 풀 반납으로 바꾸는 프록시
+     */
+    private final class PooledConnectionHandler implements InvocationHandler {
+
+        private final Connection physical;
+        private boolean returned;
+
+        private PooledConnectionHandler(Connection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        release(physical);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + physical + "]";
+                }
+                default -> {
+                    if (returned) {
+                        throw new SQLException("이미 풀에 반납된 커넥션입니다.");
+                    }
+                    try {
+                        return method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        }
+    }
+}
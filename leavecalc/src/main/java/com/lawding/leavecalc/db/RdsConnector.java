@@ -3,52 +3,75 @@ package com.lawding.leavecalc.db;
 import com.lawding.leavecalc.exception.AnnualLeaveException;
 import com.lawding.leavecalc.exception.ErrorCode;
 import com.lawding.leavecalc.handler.AnnualLeaveCalculatorLambdaHandler;
+import com.lawding.leavecalc.util.Lazy;
 import com.lawding.leavecalc.util.LogUtil;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import org.slf4j.Logger;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.rds.RdsUtilities;
-import software.amazon.awssdk.services.rds.model.GenerateAuthenticationTokenRequest;
 
+/**
+ * RDS 커넥션 제공
+ * <p>
+ * JDBC 드라이버 로딩, 환경변수 확인, IAM 토큰 서명기(자체 SigV4 서명, {@link IamAuthTokenProvider}) 생성은 첫 DB
+ * 접근 시점에 한 번만 수행합니다. 스냅샷 공휴일처럼 DB 가 필요 없는 요청은 이 비용을 치르지 않으며, 환경변수 누락 등으로
+ * 초기화에 실패해도 해당 요청만 실패하고 다음 접근에서 다시 시도합니다.
+ */
 public class RdsConnector {
 
     private static final String JDBC_DRIVER = "com.mysql.cj.jdbc.Driver";
-    private static final String RDS_HOSTNAME;
-    private static final int RDS_PORT;
-    private static final String RDS_DATABASE ;
-    private static final String RDS_USERNAME ;
-    private static final String REGION ;
+    private static final int MAX_IDLE_CONNECTIONS = 4;
 
     private static final Logger logger = LogUtil.getLogger(
         AnnualLeaveCalculatorLambdaHandler.class);
 
-    static {
+    private static final Lazy<RdsDataSource> dataSource = Lazy.of("RDS",
+        RdsConnector::createDataSource);
+
+    private record RdsDataSource(IamAuthTokenProvider tokenProvider, RdsConnectionPool pool) {
+
+    }
+
+    private RdsConnector() {
+    }
+
+    private static RdsDataSource createDataSource() {
         try {
             Class.forName(JDBC_DRIVER);
         } catch (ClassNotFoundException e) {
             throw new AnnualLeaveException(ErrorCode.JDBC_DRIVER_NOT_FOUND);
         }
 
+        String hostname = getEnv("RDS_HOSTNAME");
+        int port;
         try {
-            RDS_HOSTNAME = getEnv("RDS_HOSTNAME");
-            RDS_PORT = Integer.parseInt(getEnv("RDS_PORT"));
-            RDS_DATABASE = getEnv("RDS_DATABASE");
-            RDS_USERNAME = getEnv("RDS_USERNAME");
-            REGION = getEnv("REGION");
+            port = Integer.parseInt(getEnv("RDS_PORT"));
         } catch (NumberFormatException e) {
             throw new AnnualLeaveException(ErrorCode.RDS_ENV_MISSING);
         }
+        String database = getEnv("RDS_DATABASE");
+        String username = getEnv("RDS_USERNAME");
+        String region = getEnv("REGION");
+
+        IamAuthTokenProvider tokenProvider = new IamAuthTokenProvider(hostname, port, username,
+            region);
+        String jdbcUrl = String.format("jdbc:mysql://%s:%d/%s", hostname, port, database);
+        RdsConnectionPool pool = new RdsConnectionPool(
+            () -> DriverManager.getConnection(jdbcUrl, username, tokenProvider.getToken()),
+            MAX_IDLE_CONNECTIONS);
+        return new RdsDataSource(tokenProvider, pool);
     }
+
+    /**
+     * 풀에서 커넥션을 빌려옵니다. 사용 후 close() 하면 물리 커넥션은 닫히지 않고 풀로 반납됩니다.
+     */
     public static Connection getConnection() {
+        RdsDataSource source = dataSource.get();
         try {
-            String authToken = generateAuthToken();
-            String jdbcUrl = String.format("jdbc:mysql://%s:%d/%s",
-                RDS_HOSTNAME, RDS_PORT, RDS_DATABASE);
-            return DriverManager.getConnection(jdbcUrl, RDS_USERNAME, authToken);
+            return source.pool().borrow();
         } catch (SQLException e) {
+            // 토큰 문제로 인한 실패일 수 있으므로 다음 연결 시 새로 서명
+            source.tokenProvider().invalidate();
             throw new AnnualLeaveException(
                 ErrorCode.DATABASE_CONNECTION_FAILED,
                 "SQLState=" + e.getSQLState() + ", VendorCode=" + e.getErrorCode() + ", Message=" + e.getMessage()
@@ -56,29 +79,43 @@ public class RdsConnector {
         }
     }
 
-    private static String generateAuthToken() {
+    /**
+     * 유휴 커넥션을 모두 닫고 캐시된 인증 토큰을 폐기합니다. (스냅샷 생성 전, 복원 직후)
+     * <p>
+     * 아직 초기화되지 않았다면 아무것도 하지 않습니다.
+     */
+    public static void reset() {
+        dataSource.ifInitialized(source -> {
+            source.pool().evictAll();
+            source.tokenProvider().invalidate();
+        });
+    }
+
+    /**
+     * 새 토큰으로 커넥션을 하나 열어 풀에 넣어 둡니다. 실패해도 요청 처리 시 다시 연결합니다.
+     */
+    public static void warmUp() {
         try {
-            Region region = Region.of(REGION);
-            DefaultCredentialsProvider credentialsProvider = DefaultCredentialsProvider.create();
-
-            RdsUtilities rdsUtilities = RdsUtilities.builder()
-                .credentialsProvider(credentialsProvider)
-                .region(region)
-                .build();
-
-            String token = rdsUtilities.generateAuthenticationToken(
-                GenerateAuthenticationTokenRequest.builder()
-                    .hostname(RDS_HOSTNAME)
-                    .port(RDS_PORT)
-                    .username(RDS_USERNAME)
-                    .build()
-            );
-            return token;
-        } catch (Exception e) {
-            throw new AnnualLeaveException(ErrorCode.IAM_AUTH_TOKEN_FAILED);
+            getConnection().close();
+            logger.info("RDS 커넥션 예열 완료");
+        } catch (AnnualLeaveException | SQLException e) {
+            logger.warn("RDS 커넥션 예열 실패: {}", e.getMessage());
         }
     }
 
+    public static boolean isInitialized() {
+        return dataSource.isInitialized();
+    }
+
+    /**
+     * @return 커넥션 풀 통계 (초기화 전이면 모두 0)
+     */
+    public static RdsConnectionPool.PoolStats poolStats() {
+        return dataSource.isInitialized()
+            ? dataSource.get().pool().stats()
+            : new RdsConnectionPool.PoolStats(0, 0, 0);
+    }
+
     private static String getEnv(String name) {
         String value = System.getenv(name);
         if (value == null || value.trim().isEmpty()) {
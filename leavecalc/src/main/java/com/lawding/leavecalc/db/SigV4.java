@@ -0,0 +1,164 @@
+package com.lawding.leavecalc.db;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * AWS Signature Version 4 쿼리 파라미터 서명(presign)
+ * <p>
+ * RDS IAM 인증 토큰 생성에 필요한 만큼만 구현했습니다. 서명 헤더는 host 하나이며, 나머지 단계(정규 요청 → 서명 문자열 →
+ * 서명 키 → 서명)는 AWS 문서의 절차를 그대로 따릅니다.
+ */
+final class SigV4 {
+
+    static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    static final String EMPTY_PAYLOAD_HASH =
+        "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter
+        .ofPattern("yyyyMMdd'T'HHmmss'Z'")
+        .withZone(ZoneOffset.UTC);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private SigV4() {
+    }
+
+    /**
+     * 요청을 서명하고 서명이 포함된 쿼리 문자열을 반환합니다.
+     *
+     * @param credentials 자격 증명 (세션 토큰이 있으면 X-Amz-Security-Token 으로 함께 서명)
+     * @param region      리전 (예: ap-northeast-2)
+     * @param service     서비스 이름 (예: rds-db)
+     * @param method      HTTP 메서드
+     * @param host        host 헤더 값 (기본 포트가 아니면 포트 포함)
+     * @param path        URI 경로
+     * @param parameters  서명 전 쿼리 파라미터
+     * @param expires     유효기간
+     * @param now         서명 시각
+     * @param payloadHash 본문 해시 (본문 없으면 {@link #EMPTY_PAYLOAD_HASH})
+     */
+    static String presign(AwsCredentials credentials, String region, String service,
+        String method, String host, String path, Map<String, String> parameters,
+        Duration expires, Instant now, String payloadHash) {
+
+        String amzDate = AMZ_DATE.format(now);
+        String date = amzDate.substring(0, 8);
+        String scope = date + "/" + region + "/" + service + "/aws4_request";
+
+        Map<String, String> query = new TreeMap<>(parameters);
+        query.put("X-Amz-Algorithm", ALGORITHM);
+        query.put("X-Amz-Credential", credentials.accessKeyId() + "/" + scope);
+        query.put("X-Amz-Date", amzDate);
+        query.put("X-Amz-Expires", Long.toString(expires.toSeconds()));
+        if (credentials.sessionToken() != null) {
+            query.put("X-Amz-Security-Token", credentials.sessionToken());
+        }
+        query.put("X-Amz-SignedHeaders", "host");
+
+        String canonicalQuery = canonicalQuery(query);
+        String canonicalRequest = canonicalRequest(method, path, canonicalQuery,
+            "host:" + host + "\n", "host", payloadHash);
+        String signature = sign(
+            signingKey(credentials.secretAccessKey(), date, region, service),
+            stringToSign(amzDate, scope, canonicalRequest));
+
+        return canonicalQuery + "&X-Amz-Signature=" + signature;
+    }
+
+    static String canonicalRequest(String method, String path, String canonicalQuery,
+        String canonicalHeaders, String signedHeaders, String payloadHash) {
+        return method + "\n"
+            + path + "\n"
+            + canonicalQuery + "\n"
+            + canonicalHeaders + "\n"
+            + signedHeaders + "\n"
+            + payloadHash;
+    }
+
+    static String stringToSign(String amzDate, String scope, String canonicalRequest) {
+        return ALGORITHM + "\n"
+            + amzDate + "\n"
+            + scope + "\n"
+            + sha256Hex(canonicalRequest);
+    }
+
+    static byte[] signingKey(String secretAccessKey, String date, String region,
+        String service) {
+        byte[] dateKey = hmacSha256(("AWS4" + secretAccessKey).getBytes(StandardCharsets.UTF_8),
+            date);
+        byte[] regionKey = hmacSha256(dateKey, region);
+        byte[] serviceKey = hmacSha256(regionKey, service);
+        return hmacSha256(serviceKey, "aws4_request");
+    }
+
+    static String sign(byte[] signingKey, String stringToSign) {
+        return hex(hmacSha256(signingKey, stringToSign));
+    }
+
+    /**
+     * 키 기준 정렬 후 키와 값을 각각 URI 인코딩합니다.
+     */
+    static String canonicalQuery(Map<String, String> parameters) {
+        StringJoiner joiner = new StringJoiner("&");
+        new TreeMap<>(parameters).forEach(
+            (key, value) -> joiner.add(uriEncode(key) + "=" + uriEncode(value)));
+        return joiner.toString();
+    }
+
+    /**
+     * RFC 3986 비예약 문자(A-Z a-z 0-9 - _ . ~)를 제외한 모든 바이트를 %XX(대문자)로 인코딩합니다.
+     */
+    static String uriEncode(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 16);
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '~') {
+                builder.append(c);
+            } else {
+                builder.append('%')
+                    .append(Character.toUpperCase(HEX[(b >> 4) & 0xF]))
+                    .append(Character.toUpperCase(HEX[b & 0xF]));
+            }
+        }
+        return builder.toString();
+    }
+
+    static String sha256Hex(String value) {
+        try {
+            return hex(MessageDigest.getInstance("SHA-256")
+                .digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] hmacSha256(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
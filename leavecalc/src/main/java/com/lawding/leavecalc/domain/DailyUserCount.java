@@ -0,0 +1,16 @@
+package com.lawding.leavecalc.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 플랫폼 요청 수 증가분
+ *
+ * @param recordDate 집계 일자
+ * @param web        web 요청 수
+ * @param ios        ios 요청 수
+ */
+public record DailyUserCount(
+    LocalDate recordDate,
+    long web,
+    long ios) {
+}
@@ -0,0 +1,280 @@
+package com.lawding.leavecalc.domain;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.StringJoiner;
+import java.util.stream.LongStream;
+
+/**
+ * 날짜 집합을 epoch day 기준 비트셋으로 표현한 불변 타입입니다.
+ * <p>
+ * 비트 i 는 epoch day (baseWord * 64 + i) 를 뜻합니다. 시작 위치를 64일 단위로 맞춰 두므로 범위가 다른 집합끼리도
+ * 합집합·교집합·개수 계산을 long 단위로 처리할 수 있습니다.
+ */
+public final class DaySet {
+
+    public static final DaySet EMPTY = new DaySet(0, new long[0]);
+
+    private final long baseWord;
+    private final long[] words;
+
+    private DaySet(long baseWord, long[] words) {
+        this.baseWord = baseWord;
+        this.words = words;
+    }
+
+    /**
+     * @param dates 날짜 목록 (null 가능)
+     */
+    public static DaySet of(Collection<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return EMPTY;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (LocalDate date : dates) {
+            long epochDay = date.toEpochDay();
+            min = Math.min(min, epochDay);
+            max = Math.max(max, epochDay);
+        }
+        Builder builder = builder(min, max);
+        for (LocalDate date : dates) {
+            builder.add(date.toEpochDay());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param fromEpochDay 추가할 수 있는 첫 epoch day
+     * @param toEpochDay   추가할 수 있는 마지막 epoch day
+     */
+    public static Builder builder(long fromEpochDay, long toEpochDay) {
+        return new Builder(fromEpochDay, toEpochDay);
+    }
+
+    public static Builder builder(DatePeriod period) {
+        return builder(period.startDate().toEpochDay(), period.endDate().toEpochDay());
+    }
+
+    private static long wordOf(long epochDay) {
+        return Math.floorDiv(epochDay, 64);
+    }
+
+    private long word(long index) {
+        long offset = index - baseWord;
+        return offset >= 0 && offset < words.length ? words[(int) offset] : 0L;
+    }
+
+    public boolean contains(LocalDate date) {
+        return contains(date.toEpochDay());
+    }
+
+    public boolean contains(long epochDay) {
+        return (word(wordOf(epochDay)) & (1L << Math.floorMod(epochDay, 64))) != 0;
+    }
+
+    /**
+     * @return 집합의 날짜 수
+     */
+    public int size() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param start 시작일 (포함)
+     * @param end   종료일 (포함)
+     * @return 기간 [start, end] 에 속하는 날짜 수
+     */
+    public int countBetween(LocalDate start, LocalDate end) {
+        long from = start.toEpochDay();
+        long to = end.toEpochDay();
+        if (to < from || words.length == 0) {
+            return 0;
+        }
+        from = Math.max(from, baseWord * 64);
+        to = Math.min(to, (baseWord + words.length) * 64 - 1);
+        if (to < from) {
+            return 0;
+        }
+        int first = (int) (wordOf(from) - baseWord);
+        int last = (int) (wordOf(to) - baseWord);
+        long firstMask = -1L << Math.floorMod(from, 64);
+        long lastMask = -1L >>> (63 - Math.floorMod(to, 64));
+        if (first == last) {
+            return Long.bitCount(words[first] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[first] & firstMask);
+        for (int i = first + 1; i < last; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count + Long.bitCount(words[last] & lastMask);
+    }
+
+    /**
+     * 기간 개수를 상수 시간에 구하기 위한 누적 개수 색인을 만듭니다.
+     */
+    public Rank rank() {
+        return new Rank(this);
+    }
+
+    public DaySet union(DaySet other) {
+        if (other.words.length == 0) {
+            return this;
+        }
+        if (words.length == 0) {
+            return other;
+        }
+        long from = Math.min(baseWord, other.baseWord);
+        long to = Math.max(baseWord + words.length, other.baseWord + other.words.length);
+        long[] result = new long[(int) (to - from)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = word(from + i) | other.word(from + i);
+        }
+        return new DaySet(from, result);
+    }
+
+    public DaySet intersect(DaySet other) {
+        long from = Math.max(baseWord, other.baseWord);
+        long to = Math.min(baseWord + words.length, other.baseWord + other.words.length);
+        if (to <= from) {
+            return EMPTY;
+        }
+        long[] result = new long[(int) (to - from)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = word(from + i) & other.word(from + i);
+        }
+        return new DaySet(from, result);
+    }
+
+    /**
+     * @return 오름차순 epoch day
+     */
+    public LongStream epochDays() {
+        LongStream.Builder builder = LongStream.builder();
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                builder.add((baseWord + i) * 64 + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof DaySet other)) {
+            return false;
+        }
+        long from = Math.min(baseWord, other.baseWord);
+        long to = Math.max(baseWord + words.length, other.baseWord + other.words.length);
+        for (long i = from; i < to; i++) {
+            if (word(i) != other.word(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(epochDays().toArray());
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        epochDays().forEach(day -> joiner.add(LocalDate.ofEpochDay(day).toString()));
+        return joiner.toString();
+    }
+
+    /**
+     * long 단위 누적 개수를 미리 계산해 둔 색인입니다. 기간 개수는 누적값 두 번과 bitCount 두 번으로 구합니다.
+     */
+    public static final class Rank {
+
+        private final long baseWord;
+        private final long[] words;
+        private final int[] cumulative; // cumulative[i] = words[0, i) 에 속한 날짜 수
+
+        private Rank(DaySet set) {
+            this.baseWord = set.baseWord;
+            this.words = set.words;
+            this.cumulative = new int[words.length + 1];
+            for (int i = 0; i < words.length; i++) {
+                cumulative[i + 1] = cumulative[i] + Long.bitCount(words[i]);
+            }
+        }
+
+        /**
+         * @return epochDay 보다 앞선 날짜 수
+         */
+        public int before(long epochDay) {
+            long offset = wordOf(epochDay) - baseWord;
+            if (offset < 0) {
+                return 0;
+            }
+            if (offset >= words.length) {
+                return cumulative[words.length];
+            }
+            long lowerBits = (1L << Math.floorMod(epochDay, 64)) - 1;
+            return cumulative[(int) offset] + Long.bitCount(words[(int) offset] & lowerBits);
+        }
+
+        /**
+         * @param from 시작 epoch day (포함)
+         * @param to   종료 epoch day (포함)
+         * @return 기간 [from, to] 에 속하는 날짜 수
+         */
+        public int countBetween(long from, long to) {
+            return to < from ? 0 : before(to + 1) - before(from);
+        }
+    }
+
+    /**
+     * 정해진 범위 안에서 날짜를 추가해 {@link DaySet} 을 만듭니다.
+     */
+    public static final class Builder {
+
+        private final long fromEpochDay;
+        private final long toEpochDay;
+        private final long baseWord;
+        private final long[] words;
+
+        private Builder(long fromEpochDay, long toEpochDay) {
+            this.fromEpochDay = fromEpochDay;
+            this.toEpochDay = toEpochDay;
+            this.baseWord = wordOf(fromEpochDay);
+            this.words = toEpochDay < fromEpochDay
+                ? new long[0] : new long[(int) (wordOf(toEpochDay) - baseWord + 1)];
+        }
+
+        /**
+         * @param epochDay 범위 밖의 날짜는 무시합니다.
+         */
+        public Builder add(long epochDay) {
+            if (epochDay >= fromEpochDay && epochDay <= toEpochDay) {
+                words[(int) (wordOf(epochDay) - baseWord)] |= 1L << Math.floorMod(epochDay, 64);
+            }
+            return this;
+        }
+
+        public DaySet build() {
+            return words.length == 0 ? EMPTY : new DaySet(baseWord, words.clone());
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package com.lawding.leavecalc.domain.flow.context;
 
-import com.lawding.leavecalc.domain.DatePeriod;
-import java.time.LocalDate;
-import java.util.Set;
+import com.lawding.leavecalc.domain.DaySet;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
@@ -11,8 +9,8 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @ToString
 public class MonthlyContext extends CalculationContext{
-    private final Set<LocalDate> absentDays;
-    private final Set<LocalDate> excludedDays;
-    private final Set<LocalDate> companyHolidays;
-    private final Set<LocalDate> statutoryHolidays;
+    private final DaySet absentDays;
+    private final DaySet excludedDays;
+    private final DaySet companyHolidays;
+    private final DaySet statutoryHolidays;
 }
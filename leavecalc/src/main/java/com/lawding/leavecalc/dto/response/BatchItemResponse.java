@@ -0,0 +1,28 @@
+package com.lawding.leavecalc.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 일괄 계산 응답의 항목 DTO
+ * <p>
+ * 요청 배열과 같은 순서로 반환하며, 항목마다 계산 결과(result) 또는 오류(error) 중 하나만 채웁니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponse(
+    int index,
+    AnnualLeaveResponse result,
+    Error error
+) {
+
+    public record Error(String code, String message) {
+
+    }
+
+    public static BatchItemResponse success(int index, AnnualLeaveResponse result) {
+        return new BatchItemResponse(index, result, null);
+    }
+
+    public static BatchItemResponse failure(int index, String code, String message) {
+        return new BatchItemResponse(index, null, new Error(code, message));
+    }
+}
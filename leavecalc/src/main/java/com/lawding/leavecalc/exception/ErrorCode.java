@@ -8,6 +8,8 @@ public enum ErrorCode {
     HIRE_DATE_REQUIRED("E100","입사일은 필수 항목입니다."),
     REFERENCE_DATE_REQUIRED("E101","기준일은 필수 항목입니다."),
     FISCAL_YEAR_REQUIRED("E102","회계연도 방식일 경우, 회계연도 시작일은 필수입니다."),
+    INVALID_REQUEST_BODY("E103","요청 본문 형식이 올바르지 않습니다."),
+    BATCH_SIZE_EXCEEDED("E104","일괄 계산 요청 건수가 최대 허용 건수를 초과했습니다."),
 
     RDS_ENV_MISSING("E200","RDS 환경변수 설정에 실패했습니다."),
     JDBC_DRIVER_NOT_FOUND("E201","JDBC 드라이버를 찾을 수 없습니다."),
@@ -17,6 +19,7 @@ public enum ErrorCode {
     IAM_AUTH_CREDENTIALS_ERROR("E205", "IAM 인증을 위한 자격 증명 획득에 실패했습니다."),
     IAM_AUTH_TOKEN_FAILED("E206", "IAM 인증 토큰 생성에 실패했습니다."),
     DATABASE_QUERY_FAILED("E207", "공휴일 조회에 실패했습니다."),
+    HOLIDAY_SNAPSHOT_OUT_OF_RANGE("E208", "공휴일 데이터가 없는 기간은 계산할 수 없습니다."),
 
     SERIALIZATION_FAILED("E400", "응답 객체 직렬화에 실패했습니다."),
 
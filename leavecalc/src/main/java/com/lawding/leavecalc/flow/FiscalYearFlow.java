@@ -7,6 +7,7 @@ import static com.lawding.leavecalc.util.AnnualLeaveHelper.*;
 import com.lawding.leavecalc.domain.AnnualLeaveContext;
 import com.lawding.leavecalc.domain.FlowStep;
 import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.DaySet;
 import com.lawding.leavecalc.domain.LeaveType;
 import com.lawding.leavecalc.domain.flow.FlowResult;
 import com.lawding.leavecalc.domain.flow.context.AnnualContext;
@@ -14,21 +15,21 @@ import com.lawding.leavecalc.domain.flow.context.CalculationContext;
 import com.lawding.leavecalc.domain.flow.context.MonthlyAndProratedContext;
 import com.lawding.leavecalc.domain.flow.context.MonthlyContext;
 import com.lawding.leavecalc.domain.flow.context.ProratedContext;
-import com.lawding.leavecalc.repository.HolidayJdbcRepository;
+import com.lawding.leavecalc.holiday.HolidayPlan;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.util.WorkingDayCalendar;
 import java.time.LocalDate;
 import java.time.MonthDay;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 public class FiscalYearFlow implements CalculationFlow {
 
-    private final HolidayJdbcRepository holidayRepository;
+    private final HolidayProvider holidayProvider;
 
-    public FiscalYearFlow(HolidayJdbcRepository holidayRepository) {
-        this.holidayRepository = holidayRepository;
+    public FiscalYearFlow(HolidayProvider holidayProvider) {
+        this.holidayProvider = holidayProvider;
     }
 
     @Override
@@ -65,11 +66,18 @@ public class FiscalYearFlow implements CalculationFlow {
         // 비례연차 발생일 구하기
         LocalDate proratedLeaveStartDate = getProratedLeaveStartDate(hireDate, fiscalYear);
 
+        // 각 단계에서 사용할 기간 (공휴일은 필요한 기간의 합집합으로 한 번만 조회)
+        DatePeriod monthlyAccrualPeriod = getAccrualPeriodBeforeFirstRegularFiscalYearStartDate(
+            hireDate, referenceDate);
+        DatePeriod proratedAccrualPeriod = getAccrualPeriodForProrated(hireDate,
+            proratedLeaveStartDate);
+        DatePeriod fiscalYearForProrated = getFiscalYearForProrated(proratedLeaveStartDate);
+
         if (isBeforeProratedLeaveStartDate(referenceDate, proratedLeaveStartDate)) {
             // 비례연차발생일 이전일 경우, 월차만 발생
+            HolidayPlan holidayPlan = HolidayPlan.fetch(holidayProvider, monthlyAccrualPeriod);
             MonthlyContext context = buildMonthlyContextBeforeProrated(hireDate, referenceDate,
-                serviceYears,
-                companyHolidays, absentPeriods, excludedPeriods);
+                serviceYears, companyHolidays, absentPeriods, excludedPeriods, holidayPlan);
 
             return FlowResult.builder()
                 .steps(steps)
@@ -82,9 +90,11 @@ public class FiscalYearFlow implements CalculationFlow {
 
             if (!referenceDate.isBefore(oneYearAnniversary)) {
                 // 입사 후 1년 이상일 경우, 비례연차
+                HolidayPlan holidayPlan = HolidayPlan.fetch(holidayProvider,
+                    proratedAccrualPeriod, fiscalYearForProrated);
                 CalculationContext context = buildProratedContext(hireDate, referenceDate,
                     serviceYears, proratedLeaveStartDate, companyHolidays, absentPeriods,
-                    excludedPeriods, steps);
+                    excludedPeriods, steps, holidayPlan);
 
                 if (context instanceof MonthlyContext) {
                     return FlowResult.builder()
@@ -102,12 +112,15 @@ public class FiscalYearFlow implements CalculationFlow {
 
             } else {
                 // 월차 + 비례연차가 발생하는 경우
+                HolidayPlan holidayPlan = HolidayPlan.fetch(holidayProvider,
+                    monthlyAccrualPeriod, proratedAccrualPeriod, fiscalYearForProrated);
                 MonthlyContext monthlyContext = buildMonthlyContextBeforeProrated(hireDate,
-                    referenceDate, serviceYears, companyHolidays, absentPeriods, excludedPeriods);
+                    referenceDate, serviceYears, companyHolidays, absentPeriods, excludedPeriods,
+                    holidayPlan);
 
                 CalculationContext proratedContext = buildProratedContext(hireDate, referenceDate,
                     serviceYears, proratedLeaveStartDate, companyHolidays, absentPeriods,
-                    excludedPeriods, steps);
+                    excludedPeriods, steps, holidayPlan);
 
                 MonthlyAndProratedContext context = MonthlyAndProratedContext.builder()
                     .monthlyContext(monthlyContext)
@@ -131,34 +144,36 @@ public class FiscalYearFlow implements CalculationFlow {
         DatePeriod accrualPeriod = getAccrualPeriodAfterFirstRegularFiscalYearStartDate(
             referenceDate, fiscalYear);
         DatePeriod availablePeriod = getAvailablePeriod(fiscalYear, referenceDate);
-        Set<LocalDate> statutoryHolidays = holidayRepository.findWeekdayHolidays(accrualPeriod);
-        int prescribedWorkingDays = countPrescribedWorkingDays(accrualPeriod, statutoryHolidays);
-        Set<LocalDate> absentDays = getWorkingDaysInPeriods(accrualPeriod, absentPeriods,
-            statutoryHolidays); // 순수 결근처리일
-        Set<LocalDate> excludedDays = new HashSet<>(
-            getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
-                statutoryHolidays)); // 순수 소정근로제외일
-        Set<LocalDate> companyHolidays = new HashSet<>(
-            getWorkingDaysInCompanyHolidays(accrualPeriod,
-                companyHoliday, statutoryHolidays)); // 순수 회사자체휴일
-        excludedDays.addAll(companyHolidays);
-
-        double attendanceRate = calculateAttendanceRate(prescribedWorkingDays, absentDays.size(),
-            excludedDays.size());
+        DaySet statutoryHolidays = DaySet.of(holidayProvider.findWeekdayHolidays(accrualPeriod));
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(statutoryHolidays);
+        int prescribedWorkingDays = countPrescribedWorkingDays(accrualPeriod, calendar);
+        int absentDays = countWorkingDaysInPeriods(accrualPeriod, absentPeriods,
+            calendar); // 순수 결근처리일 수
+        int excludedDays = countExcludedWorkingDays(accrualPeriod, excludedPeriods,
+            companyHoliday, calendar); // 순수 소정근로제외일 + 회사자체휴일 수
+
+        double attendanceRate = calculateAttendanceRate(prescribedWorkingDays, absentDays,
+            excludedDays);
 
         double prescribeWorkingRatio = calculatePrescribedWorkingRatio(prescribedWorkingDays,
-            excludedDays.size());
+            excludedDays);
 
         if (attendanceRate < MINIMUM_WORK_RATIO) {
             steps.add(FlowStep.UNDER_AR);
             steps.add(FlowStep.stepPWR(prescribeWorkingRatio));
-            // 월차
+            // 월차 (월별 계산을 위해 날짜 집합이 필요)
+            DaySet absentDaySet = getWorkingDaysInPeriods(accrualPeriod, absentPeriods, calendar);
+            DaySet companyHolidays = getWorkingDaysInCompanyHolidays(accrualPeriod,
+                companyHoliday, calendar); // 순수 회사자체휴일
+            DaySet excludedDaySet = getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
+                calendar).union(companyHolidays); // 순수 소정근로제외일 + 회사자체휴일
+
             MonthlyContext context = MonthlyContext.builder()
                 .serviceYears(serviceYears)
                 .accrualPeriod(accrualPeriod)
                 .availablePeriod(availablePeriod)
-                .absentDays(absentDays)
-                .excludedDays(excludedDays)
+                .absentDays(absentDaySet)
+                .excludedDays(excludedDaySet)
                 .companyHolidays(companyHolidays)
                 .statutoryHolidays(statutoryHolidays)
                 .attendanceRate(formatDouble(attendanceRate))
@@ -192,18 +207,19 @@ public class FiscalYearFlow implements CalculationFlow {
     private MonthlyContext buildMonthlyContextBeforeProrated(LocalDate hireDate,
         LocalDate referenceDate,
         int serviceYears, List<LocalDate> companyHoliday, List<DatePeriod> absentPeriods,
-        List<DatePeriod> excludedPeriods) {
+        List<DatePeriod> excludedPeriods, HolidayPlan holidayPlan) {
 
         DatePeriod accrualPeriod = getAccrualPeriodBeforeFirstRegularFiscalYearStartDate(hireDate,
             referenceDate);
         DatePeriod availablePeriod = getAvailablePeriodForMonthly(hireDate, referenceDate);
-        Set<LocalDate> statutoryHolidays = holidayRepository.findWeekdayHolidays(accrualPeriod);
-        Set<LocalDate> absentDays = getWorkingDaysInPeriods(accrualPeriod, absentPeriods,
-            statutoryHolidays); // 순수 결근처리일
-        Set<LocalDate> excludedDays = getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
-            statutoryHolidays); // 순수 소정근로제외일
-        Set<LocalDate> companyHolidays = getWorkingDaysInCompanyHolidays(accrualPeriod,
-            companyHoliday, statutoryHolidays); // 순수 회사자체휴일
+        DaySet statutoryHolidays = DaySet.of(holidayPlan.holidaysIn(accrualPeriod));
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(statutoryHolidays);
+        DaySet absentDays = getWorkingDaysInPeriods(accrualPeriod, absentPeriods,
+            calendar); // 순수 결근처리일
+        DaySet excludedDays = getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
+            calendar); // 순수 소정근로제외일
+        DaySet companyHolidays = getWorkingDaysInCompanyHolidays(accrualPeriod,
+            companyHoliday, calendar); // 순수 회사자체휴일
 
         return MonthlyContext.builder()
             .serviceYears(serviceYears)
@@ -219,39 +235,43 @@ public class FiscalYearFlow implements CalculationFlow {
     private CalculationContext buildProratedContext(LocalDate hireDate, LocalDate referenceDate,
         int serviceYears,
         LocalDate proratedLeaveStartDate, List<LocalDate> companyHoliday,
-        List<DatePeriod> absentPeriods, List<DatePeriod> excludedPeriods, List<FlowStep> steps) {
+        List<DatePeriod> absentPeriods, List<DatePeriod> excludedPeriods, List<FlowStep> steps,
+        HolidayPlan holidayPlan) {
 
         DatePeriod accrualPeriod = getAccrualPeriodForProrated(hireDate, proratedLeaveStartDate);
         DatePeriod availablePeriod = getAvailablePeriodForProrated(proratedLeaveStartDate,
             referenceDate);
-        Set<LocalDate> statutoryHolidays = holidayRepository.findWeekdayHolidays(accrualPeriod);
-        int prescribedWorkingDays = countPrescribedWorkingDays(accrualPeriod, statutoryHolidays);
-        Set<LocalDate> absentDays = getWorkingDaysInPeriods(accrualPeriod, absentPeriods,
-            statutoryHolidays); // 순수 결근처리일
-        Set<LocalDate> excludedDays = new HashSet<>(
-            getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
-                statutoryHolidays)); // 순수 소정근로제외일
-        Set<LocalDate> companyHolidays = new HashSet<>(
-            getWorkingDaysInCompanyHolidays(accrualPeriod,
-                companyHoliday, statutoryHolidays)); // 순수 회사자체휴일
-        excludedDays.addAll(companyHolidays);
-
-        double attendanceRate = calculateAttendanceRate(prescribedWorkingDays, absentDays.size(),
-            excludedDays.size());
+        DaySet statutoryHolidays = DaySet.of(holidayPlan.holidaysIn(accrualPeriod));
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(statutoryHolidays);
+        int prescribedWorkingDays = countPrescribedWorkingDays(accrualPeriod, calendar);
+        int absentDays = countWorkingDaysInPeriods(accrualPeriod, absentPeriods,
+            calendar); // 순수 결근처리일 수
+        int excludedDays = countExcludedWorkingDays(accrualPeriod, excludedPeriods,
+            companyHoliday, calendar); // 순수 소정근로제외일 + 회사자체휴일 수
+
+        double attendanceRate = calculateAttendanceRate(prescribedWorkingDays, absentDays,
+            excludedDays);
 
         double prescribeWorkingRatio = calculatePrescribedWorkingRatio(prescribedWorkingDays,
-            excludedDays.size());
+            excludedDays);
 
         if (attendanceRate < MINIMUM_WORK_RATIO) {
             steps.add(FlowStep.UNDER_AR);
             steps.add(FlowStep.stepPWR(prescribeWorkingRatio));
 
+            // 월차는 월별 계산을 위해 날짜 집합이 필요
+            DaySet absentDaySet = getWorkingDaysInPeriods(accrualPeriod, absentPeriods, calendar);
+            DaySet companyHolidays = getWorkingDaysInCompanyHolidays(accrualPeriod,
+                companyHoliday, calendar); // 순수 회사자체휴일
+            DaySet excludedDaySet = getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
+                calendar).union(companyHolidays); // 순수 소정근로제외일 + 회사자체휴일
+
             return MonthlyContext.builder()
                 .serviceYears(serviceYears)
                 .accrualPeriod(accrualPeriod)
                 .availablePeriod(availablePeriod)
-                .absentDays(absentDays)
-                .excludedDays(excludedDays)
+                .absentDays(absentDaySet)
+                .excludedDays(excludedDaySet)
                 .companyHolidays(companyHolidays)
                 .statutoryHolidays(statutoryHolidays)
                 .attendanceRate(formatDouble(attendanceRate))
@@ -263,7 +283,7 @@ public class FiscalYearFlow implements CalculationFlow {
             steps.add(FlowStep.stepPWR(prescribeWorkingRatio));
 
             double prescribedWorkingRatioForProrated = calculatePrescribedWorkingRatioForProrated(
-                proratedLeaveStartDate, prescribedWorkingDays, excludedDays);
+                proratedLeaveStartDate, prescribedWorkingDays, excludedDays, holidayPlan);
 
             return ProratedContext.builder()
                 .serviceYears(serviceYears)
@@ -374,17 +394,17 @@ public class FiscalYearFlow implements CalculationFlow {
     }
 
     private double calculatePrescribedWorkingRatioForProrated(LocalDate proratedLeaveStartDate,
-        int prescribedWorkingDays, Set<LocalDate> excludedDays) {
+        int prescribedWorkingDays, int excludedDays, HolidayPlan holidayPlan) {
 
         // 직전 회계연도 소정근로일 구하기
         DatePeriod fiscalYearForProrated = getFiscalYearForProrated(proratedLeaveStartDate);
-        Set<LocalDate> statutoryHolidays = holidayRepository.findWeekdayHolidays(
-            fiscalYearForProrated);
-        int denominator = countPrescribedWorkingDays(fiscalYearForProrated, statutoryHolidays);
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(
+            holidayPlan.holidaysIn(fiscalYearForProrated));
+        int denominator = countPrescribedWorkingDays(fiscalYearForProrated, calendar);
         if (denominator <= 0) {
             return 0.0;
         }
-        return (double) (prescribedWorkingDays - excludedDays.size()) / denominator;
+        return (double) (prescribedWorkingDays - excludedDays) / denominator;
     }
 
     private DatePeriod getAvailablePeriodForMonthly(LocalDate hireDate, LocalDate referenceDate) {
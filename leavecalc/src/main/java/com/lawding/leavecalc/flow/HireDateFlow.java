@@ -8,26 +8,26 @@ import static com.lawding.leavecalc.util.AnnualLeaveHelper.getWorkingDaysInPerio
 import com.lawding.leavecalc.domain.AnnualLeaveContext;
 import com.lawding.leavecalc.domain.FlowStep;
 import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.DaySet;
 import com.lawding.leavecalc.domain.flow.FlowResult;
 import com.lawding.leavecalc.domain.LeaveType;
 import com.lawding.leavecalc.domain.flow.context.AnnualContext;
 import com.lawding.leavecalc.domain.flow.context.MonthlyContext;
-import com.lawding.leavecalc.repository.HolidayJdbcRepository;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.util.WorkingDayCalendar;
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Flow;
 
 public class HireDateFlow implements CalculationFlow {
 
-    private final HolidayJdbcRepository holidayRepository;
+    private final HolidayProvider holidayProvider;
 
-    public HireDateFlow(HolidayJdbcRepository holidayRepository) {
-        this.holidayRepository = holidayRepository;
+    public HireDateFlow(HolidayProvider holidayProvider) {
+        this.holidayProvider = holidayProvider;
     }
 
     @Override
@@ -59,14 +59,15 @@ public class HireDateFlow implements CalculationFlow {
         DatePeriod accrualPeriod = new DatePeriod(hireDate, referenceDate);
         DatePeriod availablePeriod = getAvailablePeriod(hireDate, referenceDate);
 
-        Set<LocalDate> statutoryHolidays = holidayRepository.findWeekdayHolidays(
-            accrualPeriod); // 산정기간 내 법정 공휴일
-        Set<LocalDate> absentDays = getWorkingDaysInPeriods(accrualPeriod, absentPeriods,
-            statutoryHolidays); // 순수 결근처리일
-        Set<LocalDate> excludedDays = getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
-            statutoryHolidays); // 순수 소정근로제외일
-        Set<LocalDate> companyHolidays = getWorkingDaysInCompanyHolidays(accrualPeriod,
-            companyHoliday, statutoryHolidays); // 순수 회사자체휴일
+        DaySet statutoryHolidays = DaySet.of(holidayProvider.findWeekdayHolidays(
+            accrualPeriod)); // 산정기간 내 법정 공휴일
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(statutoryHolidays);
+        DaySet absentDays = getWorkingDaysInPeriods(accrualPeriod, absentPeriods,
+            calendar); // 순수 결근처리일
+        DaySet excludedDays = getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
+            calendar); // 순수 소정근로제외일
+        DaySet companyHolidays = getWorkingDaysInCompanyHolidays(accrualPeriod,
+            companyHoliday, calendar); // 순수 회사자체휴일
 
         MonthlyContext context = MonthlyContext.builder()
             .serviceYears(serviceYears)
@@ -92,33 +93,36 @@ public class HireDateFlow implements CalculationFlow {
         DatePeriod accrualPeriod = getAccrualPeriod(hireDate, referenceDate);
         DatePeriod availablePeriod = getAvailablePeriod(hireDate, referenceDate);
 
-        Set<LocalDate> statutoryHolidays = holidayRepository.findWeekdayHolidays(accrualPeriod);
-        int prescribedWorkingDays = countPrescribedWorkingDays(accrualPeriod, statutoryHolidays);
-        Set<LocalDate> absentDays = getWorkingDaysInPeriods(accrualPeriod, absentPeriods,
-            statutoryHolidays); // 순수 결근처리일
-        Set<LocalDate> excludedDays = new HashSet<>(
-            getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
-                statutoryHolidays)); // 순수 소정근로제외일
-        Set<LocalDate> companyHolidays = new HashSet<>(
-            getWorkingDaysInCompanyHolidays(accrualPeriod,
-                companyHoliday, statutoryHolidays)); // 순수 회사자체휴일
-        excludedDays.addAll(companyHolidays);
-
-        double attendanceRate = calculateAttendanceRate(prescribedWorkingDays, absentDays.size(),
-            excludedDays.size());
+        DaySet statutoryHolidays = DaySet.of(holidayProvider.findWeekdayHolidays(accrualPeriod));
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(statutoryHolidays);
+        int prescribedWorkingDays = countPrescribedWorkingDays(accrualPeriod, calendar);
+        int absentDays = countWorkingDaysInPeriods(accrualPeriod, absentPeriods,
+            calendar); // 순수 결근처리일 수
+        int excludedDays = countExcludedWorkingDays(accrualPeriod, excludedPeriods,
+            companyHoliday, calendar); // 순수 소정근로제외일 + 회사자체휴일 수
+
+        double attendanceRate = calculateAttendanceRate(prescribedWorkingDays, absentDays,
+            excludedDays);
         double prescribeWorkingRatio = calculatePrescribedWorkingRatio(prescribedWorkingDays,
-            excludedDays.size());
+            excludedDays);
 
         if (attendanceRate < MINIMUM_WORK_RATIO) {
             steps.add(FlowStep.UNDER_AR);
             steps.add(FlowStep.stepPWR(prescribeWorkingRatio));
 
+            // 월차는 월별 계산을 위해 날짜 집합이 필요
+            DaySet absentDaySet = getWorkingDaysInPeriods(accrualPeriod, absentPeriods, calendar);
+            DaySet companyHolidays = getWorkingDaysInCompanyHolidays(accrualPeriod,
+                companyHoliday, calendar); // 순수 회사자체휴일
+            DaySet excludedDaySet = getWorkingDaysInPeriods(accrualPeriod, excludedPeriods,
+                calendar).union(companyHolidays); // 순수 소정근로제외일 + 회사자체휴일
+
             MonthlyContext context = MonthlyContext.builder()
                 .serviceYears(serviceYears)
                 .accrualPeriod(accrualPeriod)
                 .availablePeriod(availablePeriod)
-                .absentDays(absentDays)
-                .excludedDays(excludedDays)
+                .absentDays(absentDaySet)
+                .excludedDays(excludedDaySet)
                 .companyHolidays(companyHolidays)
                 .statutoryHolidays(statutoryHolidays)
                 .attendanceRate(formatDouble(attendanceRate))
@@ -4,22 +4,38 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lawding.leavecalc.cache.CalculationResultCache;
 import com.lawding.leavecalc.domain.AnnualLeaveContext;
 import com.lawding.leavecalc.dto.AnnualLeaveResponse;
 import com.lawding.leavecalc.dto.AnnualLeaveResult;
+import com.lawding.leavecalc.dto.BatchItemResponse;
 import com.lawding.leavecalc.dto.request.AnnualLeaveRequest;
 import com.lawding.leavecalc.mapper.AnnualLeaveMapper;
+import com.lawding.leavecalc.metrics.StageMetrics;
+import com.lawding.leavecalc.metrics.StageMetrics.Stage;
 import com.lawding.leavecalc.repository.DailyUserJdbcRepository;
+import com.lawding.leavecalc.repository.InMemoryDailyUserRepository;
+import com.lawding.leavecalc.resolver.ExplanationCatalog;
+import com.lawding.leavecalc.resolver.ExplanationFormat;
+import com.lawding.leavecalc.serializer.AnnualLeaveResponseSerializer;
+import com.lawding.leavecalc.service.AnnualLeaveBatchService;
+import com.lawding.leavecalc.service.DailyUserCountBuffer;
 import com.lawding.leavecalc.service.DailyUserService;
 import com.lawding.leavecalc.strategy.CalculationStrategy;
 import com.lawding.leavecalc.strategy.factory.CalculationStrategyFactory;
 import com.lawding.leavecalc.util.AnnualLeaveRequestValidator;
 import com.lawding.leavecalc.util.AnnualLeaveRequestValidator.HeaderInfo;
+import com.lawding.leavecalc.util.EnvUtils;
 import com.lawding.leavecalc.util.LogUtil;
+import com.lawding.leavecalc.util.RequestLogPolicy;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -29,14 +45,40 @@ public class AnnualLeaveCalculatorLambdaHandler implements
 
     private static final Logger logger = LogUtil.getLogger(
         AnnualLeaveCalculatorLambdaHandler.class);
-    private final ObjectMapper mapper;
-    private static final DailyUserService dailyUserService =
-        new DailyUserService(new DailyUserJdbcRepository());
-
-    public AnnualLeaveCalculatorLambdaHandler() {
-        this.mapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final long classInitStartTime = LogUtil.startTimer();
+    private static final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    // 요청 타입별 역직렬화기는 한 번만 만들어 재사용 (응답은 AnnualLeaveResponseSerializer 로 직접 기록)
+    private static final ObjectReader requestReader = mapper.readerFor(AnnualLeaveRequest.class);
+    // DB 커넥션(드라이버, SigV4 IAM 토큰 서명기)은 첫 반영 시점에 RdsConnector 가 준비
+    // DAILY_USER_STORE=memory 인 경우 DB 대신 메모리에 기록 (부하 재현 등 로컬 실행)
+    private static final DailyUserJdbcRepository dailyUserRepository =
+        "memory".equalsIgnoreCase(System.getenv("DAILY_USER_STORE"))
+            ? new InMemoryDailyUserRepository() : new DailyUserJdbcRepository();
+    // DAILY_USER_RECORDING=false 인 경우 플랫폼 집계를 기록하지 않음 (DB 없이 동작하는 배포)
+    // 반영 주기·건수(DAILY_USER_FLUSH_*)는 상시 실행 모드에서만 사용 (useBufferedDailyUserFlush)
+    private static final DailyUserService dailyUserService = new DailyUserService(
+        new DailyUserCountBuffer(dailyUserRepository,
+            Duration.ofSeconds(EnvUtils.getLong("DAILY_USER_FLUSH_INTERVAL_SECONDS", 60)),
+            EnvUtils.getLong("DAILY_USER_FLUSH_THRESHOLD", 100)),
+        EnvUtils.getBoolean("DAILY_USER_RECORDING", true));
+    // 같은 요청(새로고침, 재시도)은 흐름·계산기를 거치지 않고 이전 결과를 재사용
+    private static final CalculationResultCache resultCache = CalculationResultCache.fromEnv();
+    // Lambda 는 종료 훅 없이 동결·회수될 수 있으므로 기본은 요청마다 반영
+    private static volatile boolean bufferedDailyUserFlush = false;
+    private static final String CATALOG_PATH = "/explanations";
+    private static final String BATCH_DIMENSION = "BATCH";
+    // 문구는 배포 단위로만 바뀌므로 하루 동안 재검증 없이 사용하고, 이후에는 ETag 로 재검증
+    private static final String CATALOG_CACHE_CONTROL = "public, max-age=86400";
+    private static final AnnualLeaveBatchService batchService = AnnualLeaveBatchService.fromEnv(
+        mapper, CalculationStrategyFactory.holidayProvider());
+
+    static {
+        dailyUserService.registerShutdownFlush();
+        // SnapStart 스냅샷 생성 전 예열, 복원 후 DB 상태 재설정
+        SnapStartPriming.register(mapper, dailyUserRepository);
+        LogUtil.logExecutionTime(logger, classInitStartTime, "초기화-핸들러");
     }
 
     @Override
@@ -45,49 +87,73 @@ public class AnnualLeaveCalculatorLambdaHandler implements
         String requestId = context.getAwsRequestId();
         String calculationId = UUID.randomUUID().toString();
 
-        LogUtil.setupLogging(requestId);
+        LogUtil.setupLogging(requestId, RequestLogPolicy.debugEnabled(input.getHeaders()));
+
+        if (isCatalogRequest(input)) {
+            try {
+                return handleCatalog(input.getHeaders());
+            } finally {
+                LogUtil.clearLogging();
+            }
+        }
+
         logger.info("연차계산 요청 시작 : requestId={}", requestId);
 
         long startTime = LogUtil.startTimer();
+        // 단계별 소요 시간 (요청 종료 시 EMF 로그로 기록)
+        StageMetrics metrics = StageMetrics.start();
 
         try {
 
+            long stageStart = StageMetrics.now();
             HeaderInfo headerInfo = AnnualLeaveRequestValidator.validate(input.getHeaders());
+            StageMetrics.record(Stage.HEADER_VALIDATION, stageStart);
             String platform = headerInfo.platform();
             boolean testMode = headerInfo.testMode();
 
-            logger.info("헤더 검증 완료: X-Platform={}, testMode={}", platform, testMode);
+            ExplanationFormat explanationFormat = headerInfo.explanationFormat();
+
+            logger.info("헤더 검증 완료: X-Platform={}, testMode={}, explanationFormat={}", platform,
+                testMode, explanationFormat);
             String requestBody = input.getBody();
 
+            stageStart = StageMetrics.now();
             dailyUserService.recordUser(platform, testMode);
-            logger.info("플랫폼 당 요청 수 카운트 반영: date={}, platform={}, testMode={}", LocalDate.now(),
+            StageMetrics.record(Stage.DAILY_USER_RECORDING, stageStart);
+            logger.info("플랫폼 당 요청 수 카운트 적재: date={}, platform={}, testMode={}", LocalDate.now(),
                 platform, testMode);
 
+            if (isBatchRequest(requestBody)) {
+                return handleBatch(requestBody, explanationFormat, startTime);
+            }
+
             logger.debug("요청 객체 변환 시작");
-            AnnualLeaveRequest request = mapper.readValue(requestBody, AnnualLeaveRequest.class);
+            stageStart = StageMetrics.now();
+            AnnualLeaveRequest request = requestReader.readValue(requestBody);
+            StageMetrics.record(Stage.JSON_PARSE, stageStart);
             logger.debug("요청 객체 변환 완료: {}", request);
 
             logger.debug("유효성 검증 시작");
+            stageStart = StageMetrics.now();
             AnnualLeaveRequestValidator.validate(request);
             logger.debug("유효성 검증 완료");
 
             logger.debug("컨텍스트 변환 시작");
             AnnualLeaveContext annualLeaveContext = AnnualLeaveMapper.toContext(request);
+            StageMetrics.record(Stage.MAPPING, stageStart);
             logger.debug("컨텍스트 변환 완료: {}", annualLeaveContext);
 
-            logger.info("계산 전략 결정 시작");
-            CalculationStrategy calculationStrategy = CalculationStrategyFactory.from(
-                annualLeaveContext);
-            logger.info("계산 전략 결정 완료: {}", calculationStrategy.getClass().getSimpleName());
-
-            logger.info("연차 계산 시작");
-            AnnualLeaveResult result = calculationStrategy.annualLeaveCalculate(annualLeaveContext);
-            logger.info("연차 계산 완료: {}", result);
+            AnnualLeaveResult result = resultCache.getOrCompute(annualLeaveContext,
+                CalculationStrategyFactory.holidayProvider(), () -> calculate(annualLeaveContext));
+            StageMetrics.dimensions(result.calculationType(), result.leaveType());
 
             AnnualLeaveResponse response = AnnualLeaveResponse.of(result, calculationId);
-            logger.info("응답 객체 생성 완료: {}", response);
+            logger.debug("응답 객체 생성 완료: {}", response);
 
-            String responseBody = mapper.writeValueAsString(response);
+            stageStart = StageMetrics.now();
+            String responseBody = AnnualLeaveResponseSerializer.toJson(response,
+                explanationFormat);
+            StageMetrics.record(Stage.SERIALIZATION, stageStart);
             logger.debug("응답 JSON 변환 완료: {}", responseBody);
 
             LogUtil.logExecutionTime(logger, startTime, "연차계산-전체");
@@ -106,8 +172,119 @@ public class AnnualLeaveCalculatorLambdaHandler implements
                 .withStatusCode(400)
                 .withBody(e.getMessage());
         } finally {
+            // Lambda 동결 전 쌓인 집계 반영 (실패해도 응답에 영향 없음)
+            flushDailyUsers(!bufferedDailyUserFlush);
+            metrics.finish(requestId);
             logger.info("연차계산 요청 종료: requestId={}", requestId);
             LogUtil.clearLogging();
         }
     }
+
+    /**
+     * 요청 종료 시 플랫폼 집계를 바로 반영하지 않고 반영 주기·건수에 따라 모아서 반영합니다.
+     * <p>
+     * 주기 반영과 종료 시 반영({@link #flushDailyUsers(boolean)})을 보장하는 상시 실행 모드(HTTP 서버)에서만
+     * 호출합니다.
+     */
+    static void useBufferedDailyUserFlush() {
+        bufferedDailyUserFlush = true;
+    }
+
+    /**
+     * 요청 처리와 별개로 쌓인 플랫폼 집계를 반영합니다. (HTTP 서버 모드의 주기 반영, 종료 시 반영)
+     *
+     * @param force true 면 반영 조건과 관계없이 반영
+     */
+    static void flushDailyUsers(boolean force) {
+        if (force) {
+            dailyUserService.flush();
+        } else {
+            dailyUserService.flushIfDue();
+        }
+    }
+
+    private static AnnualLeaveResult calculate(AnnualLeaveContext annualLeaveContext) {
+        logger.info("계산 전략 결정 시작");
+        long stageStart = StageMetrics.now();
+        CalculationStrategy calculationStrategy = CalculationStrategyFactory.from(
+            annualLeaveContext);
+        StageMetrics.record(Stage.STRATEGY_SELECTION, stageStart);
+        logger.info("계산 전략 결정 완료: {}", calculationStrategy.getClass().getSimpleName());
+
+        logger.info("연차 계산 시작");
+        AnnualLeaveResult result = calculationStrategy.annualLeaveCalculate(annualLeaveContext);
+        logger.info("연차 계산 완료: leaveType={}", result.leaveType());
+        logger.debug("연차 계산 결과: {}", result);
+        return result;
+    }
+
+    /**
+     * 요청 본문이 JSON 배열이면 일괄 계산 요청으로 처리합니다.
+     */
+    private static boolean isBatchRequest(String requestBody) {
+        if (requestBody == null) {
+            return false;
+        }
+        for (int i = 0; i < requestBody.length(); i++) {
+            char c = requestBody.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '[';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * GET .../explanations: 안내 코드 → 문구 목록 (헤더 검증, 사용자 집계 없음)
+     */
+    private static boolean isCatalogRequest(APIGatewayProxyRequestEvent input) {
+        return "GET".equalsIgnoreCase(input.getHttpMethod()) && input.getPath() != null
+               && input.getPath().endsWith(CATALOG_PATH);
+    }
+
+    /**
+     * If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 로 응답합니다.
+     */
+    private static APIGatewayProxyResponseEvent handleCatalog(Map<String, String> headers) {
+        String ifNoneMatch = headers == null ? null : headers.get("if-none-match");
+        boolean notModified = ExplanationCatalog.matches(ifNoneMatch);
+        logger.info("안내 코드 목록 요청: notModified={}", notModified);
+
+        Map<String, String> responseHeaders = Map.of(
+            "Content-Type", "application/json",
+            "ETag", ExplanationCatalog.etag(),
+            "Cache-Control", CATALOG_CACHE_CONTROL);
+        if (notModified) {
+            return new APIGatewayProxyResponseEvent()
+                .withStatusCode(304)
+                .withHeaders(responseHeaders);
+        }
+        return new APIGatewayProxyResponseEvent()
+            .withStatusCode(200)
+            .withHeaders(responseHeaders)
+            .withBody(ExplanationCatalog.json());
+    }
+
+    private APIGatewayProxyResponseEvent handleBatch(String requestBody,
+        ExplanationFormat explanationFormat, long startTime) throws Exception {
+        logger.info("일괄 계산 시작");
+        // 항목별 계산은 작업 스레드에서 실행되므로 핸들러 단계만 기록
+        StageMetrics.dimensions(BATCH_DIMENSION, BATCH_DIMENSION);
+        long stageStart = StageMetrics.now();
+        JsonNode items = mapper.readTree(requestBody);
+        StageMetrics.record(Stage.JSON_PARSE, stageStart);
+        List<BatchItemResponse> responses = batchService.calculate(items);
+        long failed = responses.stream().filter(response -> response.error() != null).count();
+        logger.info("일괄 계산 완료: items={}, failed={}", responses.size(), failed);
+
+        stageStart = StageMetrics.now();
+        String responseBody = AnnualLeaveResponseSerializer.toJson(responses, explanationFormat);
+        StageMetrics.record(Stage.SERIALIZATION, stageStart);
+        LogUtil.logExecutionTime(logger, startTime, "연차계산-일괄");
+
+        return new APIGatewayProxyResponseEvent()
+            .withStatusCode(200)
+            .withHeaders(Map.of("Content-Type", "application/json"))
+            .withBody(responseBody);
+    }
 }
@@ -0,0 +1,247 @@
+package com.lawding.leavecalc.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lawding.leavecalc.dto.BatchItemResponse;
+import com.lawding.leavecalc.dto.request.AnnualLeaveRequest;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.mapper.AnnualLeaveCsvMapper;
+import com.lawding.leavecalc.serializer.AnnualLeaveResponseSerializer;
+import com.lawding.leavecalc.service.AnnualLeaveBatchService;
+import com.lawding.leavecalc.strategy.factory.CalculationStrategyFactory;
+import com.lawding.leavecalc.util.LogUtil;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+
+/**
+ * 직원 명부(NDJSON 또는 CSV, 한 줄에 한 건)를 읽어 연차를 일괄 계산하는 명령행 도구입니다. (Lambda 미사용)
+ * <pre>
+ * BulkCalculator &lt;input.ndjson|input.csv&gt; &lt;output.ndjson&gt; [threads]
+ * </pre>
+ * 읽기(메인 스레드) → 변환·계산·직렬화(작업 스레드) → 쓰기(쓰기 스레드) 순으로 처리하며, 동시에 처리 중인 줄 수를
+ * 제한해 입력 크기와 관계없이 메모리 사용량이 일정합니다. 결과는 입력 순서대로 한 줄에 하나씩 기록하며, 형식은 일괄 계산
+ * API 의 항목({@link BatchItemResponse}, index 는 헤더와 빈 줄을 제외한 0부터의 순번)과 같습니다.
+ * <p>
+ * 공휴일은 HOLIDAY_SOURCE 환경변수에 따라 DB, jar 스냅샷 또는 메모리에서 조회합니다.
+ */
+public class BulkCalculator {
+
+    private static final Logger logger = LogUtil.getLogger(BulkCalculator.class);
+
+    private static final int WINDOW_PER_THREAD = 256;
+    private static final long PROGRESS_INTERVAL = 10_000;
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format of(Path path) {
+            return path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")
+                ? CSV : NDJSON;
+        }
+    }
+
+    private record Line(long index, String text) {
+
+    }
+
+    private record Output(long index, String json) {
+
+    }
+
+    private static final Line NO_MORE_LINES = new Line(-1, null);
+    private static final Output NO_MORE_OUTPUTS = new Output(-1, null);
+
+    private final ObjectReader requestReader;
+    private final HolidayProvider holidayProvider;
+    private final int threads;
+    private final int window;
+
+    /**
+     * @param threads 계산 스레드 수
+     * @param window  동시에 처리 중일 수 있는 최대 줄 수 (읽었지만 아직 쓰지 않은 줄)
+     */
+    public BulkCalculator(ObjectMapper mapper, HolidayProvider holidayProvider, int threads,
+        int window) {
+        this.requestReader = mapper.readerFor(AnnualLeaveRequest.class);
+        this.holidayProvider = holidayProvider;
+        this.threads = threads;
+        this.window = window;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2 || args.length > 3) {
+            throw new IllegalArgumentException(
+                "사용법: <input.ndjson|input.csv> <output.ndjson> [threads]");
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        int threads = args.length == 3 ? Integer.parseInt(args[2])
+            : Runtime.getRuntime().availableProcessors();
+
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        BulkCalculator calculator = new BulkCalculator(mapper,
+            CalculationStrategyFactory.holidayProvider(), threads, threads * WINDOW_PER_THREAD);
+
+        long startTime = LogUtil.startTimer();
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+            BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            long count = calculator.run(reader, writer, Format.of(input));
+            logger.info("대량 계산 완료: lines={}, threads={}, output={}", count, threads, output);
+        }
+        LogUtil.logExecutionTime(logger, startTime, "대량계산-전체");
+    }
+
+    /**
+     * @return 처리한 줄 수
+     */
+    public long run(BufferedReader reader, Writer writer, Format format)
+        throws IOException, InterruptedException {
+        Map<String, Integer> csvHeader =
+            format == Format.CSV ? AnnualLeaveCsvMapper.parseHeader(reader.readLine()) : null;
+
+        Semaphore inFlight = new Semaphore(window);
+        BlockingQueue<Line> lines = new LinkedBlockingQueue<>();
+        BlockingQueue<Output> outputs = new LinkedBlockingQueue<>();
+        WriterTask writerTask = new WriterTask(writer, outputs, inFlight);
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        ExecutorService writerThread = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> written = writerThread.submit(writerTask);
+            for (int i = 0; i < threads; i++) {
+                workers.execute(() -> calculateLines(lines, outputs, csvHeader));
+            }
+
+            long count = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                if (text.isBlank()) {
+                    continue;
+                }
+                inFlight.acquire();
+                if (writerTask.failed) {
+                    break;
+                }
+                lines.put(new Line(count++, text));
+                if (count % PROGRESS_INTERVAL == 0) {
+                    logger.info("대량 계산 진행: lines={}", count);
+                }
+            }
+
+            for (int i = 0; i < threads; i++) {
+                lines.put(NO_MORE_LINES);
+            }
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            outputs.put(NO_MORE_OUTPUTS);
+            return written.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            workers.shutdownNow();
+            writerThread.shutdownNow();
+        }
+    }
+
+    private void calculateLines(BlockingQueue<Line> lines, BlockingQueue<Output> outputs,
+        Map<String, Integer> csvHeader) {
+        try {
+            Line line;
+            while ((line = lines.take()) != NO_MORE_LINES) {
+                String json;
+                try {
+                    json = calculate(line, csvHeader);
+                } catch (Throwable e) {
+                    // 직렬화 실패, Error 등으로 줄을 건너뛰면 쓰기 스레드가 그 줄을 끝없이 기다리므로 실패 항목으로 기록
+                    json = AnnualLeaveResponseSerializer.toJson(
+                        AnnualLeaveBatchService.failure((int) line.index(), e));
+                }
+                outputs.put(new Output(line.index(), json));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String calculate(Line line, Map<String, Integer> csvHeader) {
+        int index = (int) line.index();
+        BatchItemResponse response;
+        try {
+            AnnualLeaveRequest request = csvHeader != null
+                ? AnnualLeaveCsvMapper.toRequest(csvHeader, line.text())
+                : requestReader.<AnnualLeaveRequest>readValue(line.text());
+            response = AnnualLeaveBatchService.calculate(index, request, holidayProvider);
+        } catch (Exception e) {
+            response = AnnualLeaveBatchService.failure(index, e);
+        }
+        return AnnualLeaveResponseSerializer.toJson(response);
+    }
+
+    /**
+     * 작업 스레드가 끝낸 순서와 관계없이 입력 순서대로 기록합니다. 앞선 줄을 기다리는 결과는 최대 window 개까지만 쌓입니다.
+     */
+    private static final class WriterTask implements Callable<Long> {
+
+        private final Writer writer;
+        private final BlockingQueue<Output> outputs;
+        private final Semaphore inFlight;
+        private volatile boolean failed;
+
+        private WriterTask(Writer writer, BlockingQueue<Output> outputs, Semaphore inFlight) {
+            this.writer = writer;
+            this.outputs = outputs;
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public Long call() throws IOException, InterruptedException {
+            Map<Long, String> pending = new HashMap<>();
+            long next = 0;
+            try {
+                Output output;
+                while ((output = outputs.take()) != NO_MORE_OUTPUTS) {
+                    pending.put(output.index(), output.json());
+                    String json;
+                    while ((json = pending.remove(next)) != null) {
+                        writer.write(json);
+                        writer.write('\n');
+                        next++;
+                        inFlight.release();
+                    }
+                }
+                writer.flush();
+                return next;
+            } catch (IOException | RuntimeException e) {
+                // 읽기 스레드가 허가를 기다리며 멈추지 않도록 깨움
+                failed = true;
+                inFlight.release(Integer.MAX_VALUE / 2);
+                throw e;
+            }
+        }
+    }
+}
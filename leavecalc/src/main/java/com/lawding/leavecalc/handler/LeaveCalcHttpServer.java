@@ -0,0 +1,200 @@
+package com.lawding.leavecalc.handler;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.lawding.leavecalc.util.EnvUtils;
+import com.lawding.leavecalc.util.LogUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+
+/**
+ * 연차 계산기를 상시 실행하는 HTTP 서버로 띄웁니다. (컨테이너 배포, Lambda 미사용)
+ * <pre>
+ * java -jar leavecalc.jar
+ * </pre>
+ * 요청을 API Gateway 이벤트로 바꿔 Lambda 와 같은 핸들러({@link AnnualLeaveCalculatorLambdaHandler})로
+ * 처리하므로 경로·헤더·응답 형식이 Lambda 배포와 같습니다. 프로세스가 유지되는 동안 공휴일·결과 캐시와 DB 커넥션을
+ * 재사용합니다.
+ * <ul>
+ *     <li>요청마다 가상 스레드에서 처리하며, 동시에 처리하는 요청은 HTTP_MAX_CONCURRENCY(기본 256)건으로 제한합니다.
+ *     HTTP_QUEUE_TIMEOUT_MILLIS(기본 1000) 안에 자리가 나지 않으면 503 으로 응답합니다.</li>
+ *     <li>종료 신호를 받으면 새 연결을 받지 않고, 처리 중인 요청을 HTTP_SHUTDOWN_GRACE_SECONDS(기본 10)초까지
+ *     기다린 뒤 쌓인 플랫폼 집계를 반영합니다.</li>
+ *     <li>플랫폼 집계는 요청이 없어도 DAILY_USER_FLUSH_INTERVAL_SECONDS 주기로 반영합니다.</li>
+ *     <li>GET /health 는 핸들러를 거치지 않고 200 으로 응답합니다. (컨테이너 상태 확인)</li>
+ * </ul>
+ * 요청 경로에서 I/O(DB 조회·반영, 자격 증명 조회)를 기다리는 동안 잡는 잠금은 synchronized 대신
+ * {@link java.util.concurrent.locks.ReentrantLock} 을 사용합니다. synchronized 안에서 대기하면 가상 스레드가
+ * 캐리어 스레드를 점유(pinning)해 동시에 처리할 수 있는 요청 수가 캐리어 스레드 수로 줄어듭니다.
+ */
+public class LeaveCalcHttpServer {
+
+    private static final Logger logger = LogUtil.getLogger(LeaveCalcHttpServer.class);
+
+    private static final String FUNCTION_NAME = "leavecalc-http";
+    private static final String HEALTH_PATH = "/health";
+    // Lambda(API Gateway) 요청 본문 한도와 동일
+    private static final int MAX_BODY_BYTES = 6 * 1024 * 1024;
+
+    private final AnnualLeaveCalculatorLambdaHandler handler =
+        new AnnualLeaveCalculatorLambdaHandler();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("daily-user-flush").daemon().factory());
+    private final Semaphore permits;
+    private final Duration queueTimeout;
+    private final Duration shutdownGrace;
+    private final Duration flushInterval;
+
+    /**
+     * @param maxConcurrency 동시에 처리하는 최대 요청 수
+     * @param queueTimeout   처리 자리를 기다리는 최대 시간
+     * @param shutdownGrace  종료 시 처리 중인 요청을 기다리는 최대 시간
+     * @param flushInterval  플랫폼 집계 반영 주기
+     */
+    public LeaveCalcHttpServer(InetSocketAddress address, int maxConcurrency,
+        Duration queueTimeout, Duration shutdownGrace, Duration flushInterval)
+        throws IOException {
+        this.server = HttpServer.create(address, 0);
+        this.permits = new Semaphore(maxConcurrency);
+        this.queueTimeout = queueTimeout;
+        this.shutdownGrace = shutdownGrace;
+        this.flushInterval = flushInterval;
+        AnnualLeaveCalculatorLambdaHandler.useBufferedDailyUserFlush();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static void main(String[] args) throws IOException {
+        LeaveCalcHttpServer server = new LeaveCalcHttpServer(
+            new InetSocketAddress((int) EnvUtils.getLong("HTTP_PORT", 8080)),
+            (int) EnvUtils.getLong("HTTP_MAX_CONCURRENCY", 256),
+            Duration.ofMillis(EnvUtils.getLong("HTTP_QUEUE_TIMEOUT_MILLIS", 1000)),
+            Duration.ofSeconds(EnvUtils.getLong("HTTP_SHUTDOWN_GRACE_SECONDS", 10)),
+            Duration.ofSeconds(EnvUtils.getLong("DAILY_USER_FLUSH_INTERVAL_SECONDS", 60)));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "http-server-shutdown"));
+        server.start();
+    }
+
+    public void start() {
+        server.start();
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(
+            () -> AnnualLeaveCalculatorLambdaHandler.flushDailyUsers(false),
+            intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("HTTP 서버 시작: port={}, maxConcurrency={}", port(),
+            permits.availablePermits());
+    }
+
+    /**
+     * @return 실제로 연결을 받는 포트 (0 으로 생성한 경우 임의 포트)
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * 새 연결을 받지 않고 처리 중인 요청을 기다린 뒤, 쌓인 플랫폼 집계를 반영합니다.
+     */
+    public void stop() {
+        logger.info("HTTP 서버 종료 시작: 처리 중인 요청 대기 최대 {}초", shutdownGrace.toSeconds());
+        // 처리 중인 요청이 모두 끝나거나 대기 시간이 지나면 반환
+        server.stop((int) shutdownGrace.toSeconds());
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+        AnnualLeaveCalculatorLambdaHandler.flushDailyUsers(true);
+        logger.info("HTTP 서버 종료 완료");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (HEALTH_PATH.equals(exchange.getRequestURI().getPath())) {
+                send(exchange, 200, Map.of("Content-Type", "text/plain"), "OK");
+                return;
+            }
+            if (!permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("동시 처리 한도 초과로 요청 거절: path={}",
+                    exchange.getRequestURI().getPath());
+                send(exchange, 503, Map.of("Retry-After", "1"),
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+                return;
+            }
+            try {
+                String body = readBody(exchange.getRequestBody());
+                if (body == null) {
+                    send(exchange, 413, null, "요청 본문이 너무 큽니다.");
+                    return;
+                }
+                APIGatewayProxyResponseEvent response = handler.handleRequest(
+                    toRequest(exchange, body), new LocalContext(FUNCTION_NAME));
+                send(exchange, response.getStatusCode(), response.getHeaders(),
+                    response.getBody());
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 헤더 이름은 API Gateway 와 같이 소문자로, 값은 첫 번째 값만 사용합니다.
+     */
+    private static APIGatewayProxyRequestEvent toRequest(HttpExchange exchange, String body) {
+        Map<String, String> headers = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            if (!header.getValue().isEmpty()) {
+                headers.put(header.getKey().toLowerCase(Locale.ROOT), header.getValue().get(0));
+            }
+        }
+        return new APIGatewayProxyRequestEvent()
+            .withHttpMethod(exchange.getRequestMethod())
+            .withPath(exchange.getRequestURI().getPath())
+            .withHeaders(headers)
+            .withBody(body.isEmpty() ? null : body);
+    }
+
+    /**
+     * @return 요청 본문, 한도를 넘으면 null
+     */
+    private static String readBody(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+        if (bytes.length > MAX_BODY_BYTES) {
+            return null;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void send(HttpExchange exchange, int status, Map<String, String> headers,
+        String body) throws IOException {
+        if (headers != null) {
+            headers.forEach(exchange.getResponseHeaders()::set);
+        }
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length == 0) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
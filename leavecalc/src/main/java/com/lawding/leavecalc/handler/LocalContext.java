@@ -0,0 +1,77 @@
+package com.lawding.leavecalc.handler;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.util.UUID;
+
+/**
+ * Lambda 밖에서 핸들러를 호출할 때 사용하는 컨텍스트입니다. (HTTP 서버 모드, 요청 재생)
+ * <p>
+ * 인스턴스마다 요청 ID 를 새로 발급하므로 요청 한 건에 하나씩 만듭니다.
+ */
+public final class LocalContext implements Context {
+
+    private final String requestId = UUID.randomUUID().toString();
+    private final String functionName;
+
+    public LocalContext(String functionName) {
+        this.functionName = functionName;
+    }
+
+    @Override
+    public String getAwsRequestId() {
+        return requestId;
+    }
+
+    @Override
+    public String getLogGroupName() {
+        return functionName;
+    }
+
+    @Override
+    public String getLogStreamName() {
+        return functionName;
+    }
+
+    @Override
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    @Override
+    public String getFunctionVersion() {
+        return "$LATEST";
+    }
+
+    @Override
+    public String getInvokedFunctionArn() {
+        return "arn:aws:lambda:ap-northeast-2:000000000000:function:" + functionName;
+    }
+
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    @Override
+    public int getRemainingTimeInMillis() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int getMemoryLimitInMB() {
+        return (int) (Runtime.getRuntime().maxMemory() / (1024 * 1024));
+    }
+
+    @Override
+    public LambdaLogger getLogger() {
+        return null;
+    }
+}
@@ -0,0 +1,151 @@
+package com.lawding.leavecalc.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.lawding.leavecalc.db.RdsConnector;
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.dto.AnnualLeaveResponse;
+import com.lawding.leavecalc.dto.AnnualLeaveResult;
+import com.lawding.leavecalc.dto.request.AnnualLeaveRequest;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.holiday.InMemoryHolidayProvider;
+import com.lawding.leavecalc.mapper.AnnualLeaveMapper;
+import com.lawding.leavecalc.repository.DailyUserJdbcRepository;
+import com.lawding.leavecalc.serializer.AnnualLeaveResponseSerializer;
+import com.lawding.leavecalc.strategy.factory.CalculationStrategyFactory;
+import com.lawding.leavecalc.util.AnnualLeaveRequestValidator;
+import com.lawding.leavecalc.util.EnvUtils;
+import com.lawding.leavecalc.util.LogUtil;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.slf4j.Logger;
+
+/**
+ * SnapStart(CRaC) 스냅샷 생성 전후 처리
+ * <p>
+ * 스냅샷 생성 전에는 메모리 공휴일로 입사일·회계연도 기준 계산을 요청 처리와 같은 경로(JSON 변환 → 검증 → 전략 → 응답
+ * 직렬화)로 반복 실행해 클래스 로딩과 JIT 를 미리 끝내고, DB 커넥션과 토큰은 스냅샷에 남지 않도록 정리합니다. 복원 직후에는
+ * 컨테이너별 집계 샤드를 다시 고르고, 이미 사용하던 DB 커넥션과 토큰을 새로 만듭니다.
+ * <p>
+ * CRaC 를 지원하지 않는 런타임에서는 등록만 되고 호출되지 않습니다.
+ */
+public final class SnapStartPriming implements Resource {
+
+    private static final Logger logger = LogUtil.getLogger(SnapStartPriming.class);
+
+    private static final HolidayProvider PRIMING_HOLIDAYS = new InMemoryHolidayProvider(List.of(
+        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 9), LocalDate.of(2024, 2, 12),
+        LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 10), LocalDate.of(2024, 5, 6),
+        LocalDate.of(2024, 5, 15), LocalDate.of(2024, 6, 6), LocalDate.of(2024, 8, 15),
+        LocalDate.of(2024, 9, 16), LocalDate.of(2024, 9, 17), LocalDate.of(2024, 9, 18),
+        LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 3), LocalDate.of(2024, 10, 9),
+        LocalDate.of(2024, 12, 25), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 28),
+        LocalDate.of(2025, 1, 29), LocalDate.of(2025, 1, 30), LocalDate.of(2025, 3, 3),
+        LocalDate.of(2025, 5, 5), LocalDate.of(2025, 5, 6), LocalDate.of(2025, 6, 3),
+        LocalDate.of(2025, 6, 6), LocalDate.of(2025, 8, 15), LocalDate.of(2025, 10, 3),
+        LocalDate.of(2025, 10, 6), LocalDate.of(2025, 10, 7), LocalDate.of(2025, 10, 8),
+        LocalDate.of(2025, 10, 9), LocalDate.of(2025, 12, 25)));
+
+    /**
+     * 월차, 연차, 월차+비례연차 분기를 모두 지나도록 구성한 요청 본문
+     */
+    private static final List<String> PRIMING_REQUESTS = List.of(
+        """
+            {"calculationType":1,"hireDate":"2024-03-15","referenceDate":"2025-01-10",
+             "nonWorkingPeriods":[{"type":2,"startDate":"2024-06-03","endDate":"2024-06-05"}],
+             "companyHolidays":["2024-05-01"]}""",
+        """
+            {"calculationType":1,"hireDate":"2021-07-01","referenceDate":"2025-08-20",
+             "nonWorkingPeriods":[{"type":3,"startDate":"2024-09-02","endDate":"2024-10-31"}],
+             "companyHolidays":["2025-05-01"]}""",
+        """
+            {"calculationType":1,"hireDate":"2023-02-01","referenceDate":"2025-02-10",
+             "nonWorkingPeriods":[{"type":2,"startDate":"2024-02-01","endDate":"2024-11-30"}]}""",
+        """
+            {"calculationType":2,"fiscalYear":"01-01","hireDate":"2024-04-08",
+             "referenceDate":"2025-03-02","companyHolidays":["2024-05-01"]}""",
+        """
+            {"calculationType":2,"fiscalYear":"01-01","hireDate":"2024-10-14",
+             "referenceDate":"2024-12-20"}""",
+        """
+            {"calculationType":2,"fiscalYear":"03-01","hireDate":"2019-05-20",
+             "referenceDate":"2025-06-30",
+             "nonWorkingPeriods":[{"type":2,"startDate":"2024-04-01","endDate":"2024-04-03"},
+                                  {"type":3,"startDate":"2024-07-01","endDate":"2024-08-30"}]}""");
+
+    private static final Map<String, String> PRIMING_HEADERS = Map.of("x-platform", "web",
+        "x-test", "true");
+
+    private static SnapStartPriming registered;
+
+    private final ObjectReader requestReader;
+    private final DailyUserJdbcRepository dailyUserRepository;
+    private final int iterations;
+
+    private SnapStartPriming(ObjectMapper mapper, DailyUserJdbcRepository dailyUserRepository,
+        int iterations) {
+        this.requestReader = mapper.readerFor(AnnualLeaveRequest.class);
+        this.dailyUserRepository = dailyUserRepository;
+        this.iterations = iterations;
+    }
+
+    /**
+     * 전역 CRaC 컨텍스트에 한 번만 등록합니다. 컨텍스트는 리소스를 약하게 참조하므로 인스턴스를 이 클래스가 보관합니다.
+     * <p>
+     * SNAPSTART_PRIMING_ITERATIONS 로 예열 반복 횟수를 조정합니다. (기본 20, 0 이면 계산 예열 생략)
+     */
+    public static synchronized void register(ObjectMapper mapper,
+        DailyUserJdbcRepository dailyUserRepository) {
+        if (registered != null) {
+            return;
+        }
+        registered = new SnapStartPriming(mapper, dailyUserRepository,
+            (int) EnvUtils.getLong("SNAPSTART_PRIMING_ITERATIONS", 20));
+        Core.getGlobalContext().register(registered);
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        long startTime = LogUtil.startTimer();
+        try {
+            prime();
+        } catch (Exception e) {
+            // 예열 실패로 스냅샷 생성을 막지 않음
+            logger.warn("스냅샷 전 예열 실패: {}", e.getMessage(), e);
+        }
+        RdsConnector.reset(); // 초기화 전이면 아무것도 하지 않음
+        LogUtil.logExecutionTime(logger, startTime, "스냅샷-예열");
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        long startTime = LogUtil.startTimer();
+        dailyUserRepository.reselectShard();
+        // 스냅샷 전에 이미 DB 를 사용한 경우에만 다시 연결 (그 외에는 첫 DB 접근 시 초기화)
+        if (RdsConnector.isInitialized()) {
+            RdsConnector.reset();
+            RdsConnector.warmUp();
+        }
+        LogUtil.logExecutionTime(logger, startTime, "스냅샷-복원");
+    }
+
+    private void prime() throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            for (String body : PRIMING_REQUESTS) {
+                AnnualLeaveRequestValidator.validate(PRIMING_HEADERS);
+                AnnualLeaveRequest request = requestReader.readValue(body);
+                AnnualLeaveRequestValidator.validate(request);
+                AnnualLeaveContext context = AnnualLeaveMapper.toContext(request);
+                AnnualLeaveResult result = CalculationStrategyFactory.from(context,
+                        PRIMING_HOLIDAYS)
+                    .annualLeaveCalculate(context);
+                AnnualLeaveResponseSerializer.toJson(AnnualLeaveResponse.of(result, "priming"));
+            }
+        }
+        logger.info("스냅샷 전 예열 완료: requests={}", iterations * PRIMING_REQUESTS.size());
+    }
+}
@@ -0,0 +1,54 @@
+package com.lawding.leavecalc.holiday;
+
+import com.lawding.leavecalc.cache.HolidayCalendar;
+import com.lawding.leavecalc.domain.DatePeriod;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 원본 공휴일 조회를 연 단위 캐시({@link HolidayCalendar})로 감쌉니다.
+ * <p>
+ * 컨테이너 전체에서 하나를 공유하면 따뜻한(warm) 호출에서는 원본(DB 등)에 접근하지 않습니다. 캐시를 다시 적재하면서
+ * 공휴일이 바뀌면 {@link #version()} 이 증가합니다.
+ */
+public class CachingHolidayProvider implements HolidayProvider {
+
+    private final HolidayProvider delegate;
+    private final HolidayCalendar calendar;
+
+    /**
+     * @param delegate 원본 공휴일 조회
+     * @param calendar 원본을 읽어 오는 캐시 ({@link #loader(HolidayProvider)})
+     */
+    public CachingHolidayProvider(HolidayProvider delegate, HolidayCalendar calendar) {
+        this.delegate = delegate;
+        this.calendar = calendar;
+    }
+
+    /**
+     * 환경변수(HOLIDAY_CACHE_TTL_MINUTES)로 TTL을 설정한 캐시로 감쌉니다.
+     */
+    public static CachingHolidayProvider fromEnv(HolidayProvider delegate) {
+        return new CachingHolidayProvider(delegate, HolidayCalendar.fromEnv(loader(delegate)));
+    }
+
+    /**
+     * @return [startDate, endDate] 의 공휴일을 원본에서 읽는 함수
+     */
+    public static HolidayCalendar.HolidayLoader loader(HolidayProvider delegate) {
+        // 원본은 [startDate, endDate + 1일] 을 조회하므로 종료일을 하루 당겨서 전달
+        return (startDate, endDate) -> delegate.findWeekdayHolidays(
+            new DatePeriod(startDate, endDate.minusDays(1)));
+    }
+
+    @Override
+    public Set<LocalDate> findWeekdayHolidays(DatePeriod period) {
+        return calendar.find(period);
+    }
+
+    @Override
+    public long version() {
+        // 두 값 모두 증가만 하므로 어느 쪽이 바뀌어도 합이 달라짐
+        return delegate.version() + calendar.version();
+    }
+}
@@ -0,0 +1,93 @@
+package com.lawding.leavecalc.holiday;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import java.time.LocalDate;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * 하나의 흐름에서 필요한 여러 기간의 공휴일을 한 번에 조회해 두는 계획입니다.
+ * <p>
+ * 흐름이 사용할 모든 {@link DatePeriod} 를 모아 합집합 범위로 한 번만 조회하고, 각 단계에는 해당 기간으로 잘라낸
+ * 읽기 전용 뷰를 제공합니다. (복사 없음)
+ */
+public final class HolidayPlan {
+
+    private final DatePeriod range;
+    private final Set<LocalDate> holidays;
+
+    private HolidayPlan(DatePeriod range, Set<LocalDate> holidays) {
+        this.range = range;
+        this.holidays = holidays;
+    }
+
+    /**
+     * @param provider 공휴일 조회
+     * @param periods  흐름에서 사용할 기간 목록
+     * @return 기간들의 합집합 범위를 한 번 조회한 결과
+     */
+    public static HolidayPlan fetch(HolidayProvider provider, DatePeriod... periods) {
+        if (periods.length == 0) {
+            throw new IllegalArgumentException("조회할 기간이 없습니다.");
+        }
+        LocalDate start = periods[0].startDate();
+        LocalDate end = periods[0].endDate();
+        for (DatePeriod period : periods) {
+            if (period.startDate().isBefore(start)) {
+                start = period.startDate();
+            }
+            if (period.endDate().isAfter(end)) {
+                end = period.endDate();
+            }
+        }
+        DatePeriod range = new DatePeriod(start, end);
+        return new HolidayPlan(range, provider.findWeekdayHolidays(range));
+    }
+
+    /**
+     * {@link HolidayProvider#findWeekdayHolidays(DatePeriod)} 와 동일하게 [startDate, endDate + 1일] 범위의
+     * 공휴일 뷰를 반환합니다.
+     *
+     * @param period 계획에 포함된 기간
+     */
+    public Set<LocalDate> holidaysIn(DatePeriod period) {
+        if (period.startDate().isBefore(range.startDate())
+            || period.endDate().isAfter(range.endDate())) {
+            throw new IllegalArgumentException("공휴일 계획에 포함되지 않은 기간입니다: " + period);
+        }
+        return new PeriodView(holidays, period.startDate(), period.endDate().plusDays(1));
+    }
+
+    private static final class PeriodView extends AbstractSet<LocalDate> {
+
+        private final Set<LocalDate> holidays;
+        private final LocalDate from;
+        private final LocalDate to;
+
+        private PeriodView(Set<LocalDate> holidays, LocalDate from, LocalDate to) {
+            this.holidays = holidays;
+            this.from = from;
+            this.to = to;
+        }
+
+        private boolean inRange(LocalDate date) {
+            return !date.isBefore(from) && !date.isAfter(to);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof LocalDate date && inRange(date) && holidays.contains(date);
+        }
+
+        @Override
+        public Iterator<LocalDate> iterator() {
+            return holidays.stream().filter(this::inRange).iterator();
+        }
+
+        @Override
+        public int size() {
+            return (int) holidays.stream().filter(this::inRange).count();
+        }
+    }
+}
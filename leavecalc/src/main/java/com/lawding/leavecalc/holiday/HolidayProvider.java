@@ -0,0 +1,28 @@
+package com.lawding.leavecalc.holiday;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 연차 산정 흐름에서 사용하는 법정공휴일 조회 인터페이스
+ * <p>
+ * 원본(DB, jar 스냅샷, 메모리)과 데코레이터(캐시, 지표)를 조합해 사용합니다. ({@link HolidayProviders})
+ */
+public interface HolidayProvider {
+
+    /**
+     * @param period 조회 기간
+     * @return 기간 [startDate, endDate + 1일] 내 법정공휴일
+     */
+    Set<LocalDate> findWeekdayHolidays(DatePeriod period);
+
+    /**
+     * 계산 결과 캐시 키에 포함하는 공휴일 데이터 버전입니다. 조회 결과가 바뀔 수 있으면 값도 달라져야 합니다.
+     *
+     * @return 공휴일 데이터 버전 (데이터가 바뀌지 않는 구현은 0)
+     */
+    default long version() {
+        return 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.lawding.leavecalc.holiday;
+
+import com.lawding.leavecalc.repository.HolidayJdbcRepository;
+import com.lawding.leavecalc.util.EnvUtils;
+import com.lawding.leavecalc.util.LogUtil;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+
+/**
+ * 환경변수로 공휴일 조회를 구성합니다.
+ * <ul>
+ *     <li>HOLIDAY_SOURCE: jdbc(기본, holidays 테이블), snapshot(jar 스냅샷), memory(HOLIDAY_DATES 목록)</li>
+ *     <li>HOLIDAY_DATES: memory 사용 시 공휴일 목록 (yyyy-MM-dd, 쉼표 구분)</li>
+ *     <li>HOLIDAY_CACHE_ENABLED: 연 단위 캐시로 감쌀지 여부 (기본: jdbc 만 true)</li>
+ *     <li>HOLIDAY_METRICS_ENABLED: 조회 소요 시간을 단계별 지표에 기록할지 여부 (기본 true)</li>
+ * </ul>
+ * 데코레이터는 원본 → 캐시 → 지표 순으로 감싸므로, 지표에는 캐시 적중 시간이 기록됩니다.
+ */
+public final class HolidayProviders {
+
+    private static final Logger logger = LogUtil.getLogger(HolidayProviders.class);
+
+    public enum Source {
+        JDBC, SNAPSHOT, MEMORY;
+
+        /**
+         * @return 값이 없거나 알 수 없는 값이면 JDBC
+         */
+        public static Source of(String value) {
+            if (value == null || value.isBlank()) {
+                return JDBC;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                logger.warn("알 수 없는 공휴일 조회 방식이어서 기본값을 사용합니다: HOLIDAY_SOURCE={}", value);
+                return JDBC;
+            }
+        }
+    }
+
+    private HolidayProviders() {
+    }
+
+    public static HolidayProvider fromEnv() {
+        Source source = Source.of(System.getenv("HOLIDAY_SOURCE"));
+        boolean cached = EnvUtils.getBoolean("HOLIDAY_CACHE_ENABLED", source == Source.JDBC);
+        boolean metered = EnvUtils.getBoolean("HOLIDAY_METRICS_ENABLED", true);
+        logger.info("공휴일 조회 구성: source={}, cache={}, metrics={}", source, cached, metered);
+        return compose(source(source), cached, metered);
+    }
+
+    /**
+     * 원본 조회를 캐시, 지표 순으로 감쌉니다.
+     */
+    public static HolidayProvider compose(HolidayProvider provider, boolean cached,
+        boolean metered) {
+        HolidayProvider composed = provider;
+        if (cached) {
+            composed = CachingHolidayProvider.fromEnv(composed);
+        }
+        if (metered) {
+            composed = new MetricsHolidayProvider(composed);
+        }
+        return composed;
+    }
+
+    private static HolidayProvider source(Source source) {
+        return switch (source) {
+            case JDBC -> new HolidayJdbcRepository();
+            case SNAPSHOT -> new HolidaySnapshotProvider();
+            case MEMORY -> new InMemoryHolidayProvider(parseDates(System.getenv("HOLIDAY_DATES")));
+        };
+    }
+
+    static List<LocalDate> parseDates(String value) {
+        List<LocalDate> dates = new ArrayList<>();
+        if (value == null || value.isBlank()) {
+            return dates;
+        }
+        for (String token : value.split(",")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            try {
+                dates.add(LocalDate.parse(token.trim()));
+            } catch (DateTimeParseException e) {
+                logger.warn("공휴일 형식이 올바르지 않아 제외합니다: HOLIDAY_DATES={}", token);
+            }
+        }
+        return dates;
+    }
+}
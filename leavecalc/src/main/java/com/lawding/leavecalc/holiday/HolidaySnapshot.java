@@ -0,0 +1,124 @@
+package com.lawding.leavecalc.holiday;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * jar 에 포함되는 이진 공휴일 달력입니다.
+ * <p>
+ * 연도마다 366비트(long 6개) 비트맵을 두고, 1월 1일부터의 일차(dayOfYear - 1) 위치에 공휴일 여부를 기록합니다.
+ * <pre>
+ * int   magic ("HOLS")
+ * byte  version
+ * short firstYear
+ * short yearCount
+ * long[6] * yearCount
+ * </pre>
+ */
+public final class HolidaySnapshot {
+
+    public static final String RESOURCE_PATH = "/holidays/holidays.bin";
+
+    private static final int MAGIC = 0x484F4C53;
+    private static final byte VERSION = 1;
+    private static final int WORDS_PER_YEAR = 6;
+
+    private final int firstYear;
+    private final long[][] years;
+
+    private HolidaySnapshot(int firstYear, long[][] years) {
+        this.firstYear = firstYear;
+        this.years = years;
+    }
+
+    public static HolidaySnapshot of(int firstYear, int lastYear, Collection<LocalDate> holidays) {
+        long[][] years = new long[lastYear - firstYear + 1][WORDS_PER_YEAR];
+        for (LocalDate holiday : holidays) {
+            int index = holiday.getYear() - firstYear;
+            if (index < 0 || index >= years.length) {
+                throw new IllegalArgumentException("스냅샷 범위를 벗어난 공휴일입니다: " + holiday);
+            }
+            int day = holiday.getDayOfYear() - 1;
+            years[index][day >>> 6] |= 1L << day;
+        }
+        return new HolidaySnapshot(firstYear, years);
+    }
+
+    public static HolidaySnapshot read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("공휴일 스냅샷 형식이 아닙니다.");
+        }
+        byte version = data.readByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 공휴일 스냅샷 버전입니다: " + version);
+        }
+        int firstYear = data.readShort();
+        int yearCount = data.readShort();
+        long[][] years = new long[yearCount][WORDS_PER_YEAR];
+        for (long[] words : years) {
+            for (int i = 0; i < WORDS_PER_YEAR; i++) {
+                words[i] = data.readLong();
+            }
+        }
+        return new HolidaySnapshot(firstYear, years);
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeShort(firstYear);
+        data.writeShort(years.length);
+        for (long[] words : years) {
+            for (long word : words) {
+                data.writeLong(word);
+            }
+        }
+        data.flush();
+    }
+
+    public int firstYear() {
+        return firstYear;
+    }
+
+    public int lastYear() {
+        return firstYear + years.length - 1;
+    }
+
+    public boolean covers(LocalDate from, LocalDate to) {
+        return from.getYear() >= firstYear && to.getYear() <= lastYear();
+    }
+
+    /**
+     * @return [from, to] 기간 중 스냅샷에 기록된 공휴일 (스냅샷 범위 밖의 연도는 무시)
+     */
+    public Set<LocalDate> holidaysBetween(LocalDate from, LocalDate to) {
+        Set<LocalDate> result = new HashSet<>();
+        int startYear = Math.max(from.getYear(), firstYear);
+        int endYear = Math.min(to.getYear(), lastYear());
+        for (int year = startYear; year <= endYear; year++) {
+            long[] words = years[year - firstYear];
+            LocalDate yearStart = LocalDate.ofYearDay(year, 1);
+            for (int w = 0; w < WORDS_PER_YEAR; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    LocalDate holiday = yearStart.plusDays((w << 6) + bit);
+                    if (!holiday.isBefore(from) && !holiday.isAfter(to)) {
+                        result.add(holiday);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
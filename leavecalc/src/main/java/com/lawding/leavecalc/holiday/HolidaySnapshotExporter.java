@@ -0,0 +1,92 @@
+package com.lawding.leavecalc.holiday;
+
+import com.lawding.leavecalc.repository.HolidayJdbcRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 공휴일 스냅샷 빌드 도구입니다. (Gradle 태스크에서 실행)
+ * <pre>
+ * encode &lt;source.txt&gt; &lt;holidays.bin&gt; &lt;requiredLastYear&gt;  원본 텍스트 파일을 이진 스냅샷으로 변환
+ * export-db &lt;fromYear&gt; &lt;toYear&gt; &lt;source.txt&gt;  holidays 테이블을 원본 텍스트 파일로 내보내기 (RDS 환경변수 필요)
+ * </pre>
+ */
+public class HolidaySnapshotExporter {
+
+    private HolidaySnapshotExporter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 4 && args[0].equals("encode")) {
+            encode(Path.of(args[1]), Path.of(args[2]), Integer.parseInt(args[3]));
+        } else if (args.length == 4 && args[0].equals("export-db")) {
+            exportDb(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Path.of(args[3]));
+        } else {
+            throw new IllegalArgumentException(
+                "사용법: encode <source.txt> <holidays.bin> <requiredLastYear> | export-db <fromYear> <toYear> <source.txt>");
+        }
+    }
+
+    /**
+     * @param requiredLastYear 원본 파일이 반드시 포함해야 하는 마지막 연도 (이보다 짧으면 실패)
+     */
+    static void encode(Path source, Path target, int requiredLastYear) throws IOException {
+        List<LocalDate> holidays = parse(Files.readAllLines(source, StandardCharsets.UTF_8));
+        if (holidays.isEmpty()) {
+            throw new IllegalArgumentException("공휴일 원본 파일이 비어 있습니다: " + source);
+        }
+        int firstYear = holidays.get(0).getYear();
+        int lastYear = holidays.get(holidays.size() - 1).getYear();
+        if (lastYear < requiredLastYear) {
+            throw new IllegalStateException("공휴일 원본 파일이 " + requiredLastYear
+                                            + "년까지 포함해야 합니다. (현재 " + lastYear + "년까지): " + source);
+        }
+        HolidaySnapshot snapshot = HolidaySnapshot.of(firstYear, lastYear, holidays);
+
+        Files.createDirectories(target.getParent());
+        try (OutputStream out = Files.newOutputStream(target)) {
+            snapshot.write(out);
+        }
+        System.out.printf("공휴일 스냅샷 생성: %d~%d, %d건 -> %s%n", firstYear, lastYear,
+            holidays.size(), target);
+    }
+
+    static void exportDb(int fromYear, int toYear, Path target) throws IOException {
+        TreeSet<LocalDate> holidays = new TreeSet<>(HolidayJdbcRepository.findHolidaysBetween(
+            LocalDate.of(fromYear, 1, 1), LocalDate.of(toYear, 12, 31)));
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write("# 법정공휴일 스냅샷 원본 (holidays 테이블에서 내보냄: "
+                         + fromYear + "~" + toYear + ")\n");
+            writer.write("# 형식: yyyy-MM-dd [설명]   ('#' 이후는 주석)\n");
+            for (LocalDate holiday : holidays) {
+                writer.write(holiday + "\n");
+            }
+        }
+        System.out.printf("holidays 테이블 내보내기: %d~%d, %d건 -> %s%n", fromYear, toYear,
+            holidays.size(), target);
+    }
+
+    /**
+     * "yyyy-MM-dd [설명]" 형식의 줄을 읽어 정렬된 날짜 목록으로 변환합니다. 빈 줄과 '#' 주석은 무시합니다.
+     */
+    static List<LocalDate> parse(List<String> lines) {
+        TreeSet<LocalDate> holidays = new TreeSet<>();
+        for (String line : lines) {
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (content.isEmpty()) {
+                continue;
+            }
+            holidays.add(LocalDate.parse(content.split("\\s+", 2)[0]));
+        }
+        return new ArrayList<>(holidays);
+    }
+}
@@ -0,0 +1,70 @@
+package com.lawding.leavecalc.holiday;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.exception.AnnualLeaveException;
+import com.lawding.leavecalc.exception.ErrorCode;
+import com.lawding.leavecalc.util.LogUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+import org.slf4j.Logger;
+
+/**
+ * jar 에 포함된 공휴일 스냅샷({@link HolidaySnapshot#RESOURCE_PATH})으로 공휴일을 조회합니다.
+ * <p>
+ * DB 에 접근하지 않으므로 VPC 밖에서 동작하는 배포에서 사용합니다. 스냅샷이 다루지 않는 연도를 조회하면 공휴일 없이
+ * 잘못 계산하지 않도록 {@link ErrorCode#HOLIDAY_SNAPSHOT_OUT_OF_RANGE} 로 실패합니다.
+ */
+public class HolidaySnapshotProvider implements HolidayProvider {
+
+    private static final Logger logger = LogUtil.getLogger(HolidaySnapshotProvider.class);
+
+    private final HolidaySnapshot snapshot;
+
+    public HolidaySnapshotProvider() {
+        this(BundledSnapshotHolder.SNAPSHOT);
+    }
+
+    public HolidaySnapshotProvider(HolidaySnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public Set<LocalDate> findWeekdayHolidays(DatePeriod period) {
+        LocalDate from = period.startDate();
+        LocalDate to = period.endDate().plusDays(1);
+        if (!snapshot.covers(from, to)) {
+            logger.error("공휴일 스냅샷 범위({}~{})를 벗어난 조회입니다: {}~{}",
+                snapshot.firstYear(), snapshot.lastYear(), from, to);
+            throw new AnnualLeaveException(ErrorCode.HOLIDAY_SNAPSHOT_OUT_OF_RANGE);
+        }
+        return Collections.unmodifiableSet(snapshot.holidaysBetween(from, to));
+    }
+
+    /**
+     * 최초 사용 시점에 jar 리소스를 한 번만 읽습니다.
+     */
+    private static final class BundledSnapshotHolder {
+
+        private static final HolidaySnapshot SNAPSHOT = load();
+
+        private static HolidaySnapshot load() {
+            try (InputStream in = HolidaySnapshotProvider.class.getResourceAsStream(
+                HolidaySnapshot.RESOURCE_PATH)) {
+                if (in == null) {
+                    throw new IllegalStateException(
+                        "공휴일 스냅샷 리소스가 없습니다: " + HolidaySnapshot.RESOURCE_PATH);
+                }
+                HolidaySnapshot snapshot = HolidaySnapshot.read(in);
+                logger.info("공휴일 스냅샷 로드 완료: years={}~{}", snapshot.firstYear(),
+                    snapshot.lastYear());
+                return snapshot;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
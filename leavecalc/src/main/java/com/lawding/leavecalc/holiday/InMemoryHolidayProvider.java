@@ -0,0 +1,33 @@
+package com.lawding.leavecalc.holiday;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 주어진 공휴일 목록으로 공휴일을 조회합니다.
+ * <p>
+ * DB 와 jar 리소스에 모두 접근하지 않으므로 기동 전 예열(priming)이나 테스트에서 사용합니다.
+ */
+public class InMemoryHolidayProvider implements HolidayProvider {
+
+    private final NavigableSet<LocalDate> holidays;
+
+    public InMemoryHolidayProvider(Collection<LocalDate> holidays) {
+        this.holidays = Collections.unmodifiableNavigableSet(new TreeSet<>(holidays));
+    }
+
+    @Override
+    public Set<LocalDate> findWeekdayHolidays(DatePeriod period) {
+        LocalDate start = period.startDate();
+        LocalDate end = period.endDate().plusDays(1);
+        if (end.isBefore(start)) {
+            return Set.of();
+        }
+        return holidays.subSet(start, true, end, true);
+    }
+}
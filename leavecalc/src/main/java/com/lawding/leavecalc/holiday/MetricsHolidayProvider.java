@@ -0,0 +1,36 @@
+package com.lawding.leavecalc.holiday;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.metrics.StageMetrics;
+import com.lawding.leavecalc.metrics.StageMetrics.Stage;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 공휴일 조회 소요 시간을 요청의 단계별 지표({@link Stage#HOLIDAY_LOOKUP})에 더합니다.
+ * <p>
+ * 흐름 한 번에 여러 번 조회하면 합산되며, 수집 중이 아닌 스레드에서는 원본 조회만 수행합니다.
+ */
+public class MetricsHolidayProvider implements HolidayProvider {
+
+    private final HolidayProvider delegate;
+
+    public MetricsHolidayProvider(HolidayProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Set<LocalDate> findWeekdayHolidays(DatePeriod period) {
+        long stageStart = StageMetrics.now();
+        try {
+            return delegate.findWeekdayHolidays(period);
+        } finally {
+            StageMetrics.record(Stage.HOLIDAY_LOOKUP, stageStart);
+        }
+    }
+
+    @Override
+    public long version() {
+        return delegate.version();
+    }
+}
@@ -0,0 +1,58 @@
+package com.lawding.leavecalc.holiday;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 미리 한 번 조회해 둔 범위의 공휴일로 응답하고, 범위를 벗어난 조회만 원본 조회에 맡깁니다.
+ * <p>
+ * 일괄 계산에서 비슷한 기간을 쓰는 여러 건이 공휴일 조회 한 번을 공유할 때 사용합니다. 범위 추정이 틀려도 원본 조회로
+ * 넘어가므로 계산 결과는 달라지지 않습니다.
+ */
+public class PrefetchedHolidayProvider implements HolidayProvider {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final NavigableSet<LocalDate> holidays;
+    private final HolidayProvider fallback;
+
+    private PrefetchedHolidayProvider(LocalDate from, LocalDate to, Set<LocalDate> holidays,
+        HolidayProvider fallback) {
+        this.from = from;
+        this.to = to;
+        this.holidays = Collections.unmodifiableNavigableSet(new TreeSet<>(holidays));
+        this.fallback = fallback;
+    }
+
+    /**
+     * @param provider 원본 공휴일 조회
+     * @param range    미리 조회할 기간
+     * @return [startDate, endDate + 1일] 을 한 번 조회해 둔 공휴일 조회
+     */
+    public static PrefetchedHolidayProvider fetch(HolidayProvider provider, DatePeriod range) {
+        return new PrefetchedHolidayProvider(range.startDate(), range.endDate().plusDays(1),
+            provider.findWeekdayHolidays(range), provider);
+    }
+
+    @Override
+    public Set<LocalDate> findWeekdayHolidays(DatePeriod period) {
+        LocalDate start = period.startDate();
+        LocalDate end = period.endDate().plusDays(1);
+        if (end.isBefore(start)) {
+            return Set.of();
+        }
+        if (start.isBefore(from) || end.isAfter(to)) {
+            return fallback.findWeekdayHolidays(period);
+        }
+        return holidays.subSet(start, true, end, true);
+    }
+
+    @Override
+    public long version() {
+        return fallback.version();
+    }
+}
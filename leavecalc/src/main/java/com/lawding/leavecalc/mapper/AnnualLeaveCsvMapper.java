@@ -0,0 +1,107 @@
+package com.lawding.leavecalc.mapper;
+
+import com.lawding.leavecalc.dto.request.AnnualLeaveRequest;
+import com.lawding.leavecalc.dto.request.NonWorkingPeriodDto;
+import com.lawding.leavecalc.exception.AnnualLeaveException;
+import com.lawding.leavecalc.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 한 줄을 {@link AnnualLeaveRequest} 로 변환합니다.
+ * <p>
+ * 첫 줄(헤더)의 열 이름으로 값을 찾으며, 모르는 열(사번 등)은 무시합니다. 값에 쉼표와 따옴표는 쓰지 않습니다.
+ * <pre>
+ * calculationType,fiscalYear,hireDate,referenceDate,companyHolidays,nonWorkingPeriods
+ * 2,01-01,2024-04-08,2025-03-02,2024-05-01;2024-10-02,2:2024-06-03~2024-06-05;3:2024-07-01~2024-08-30
+ * </pre>
+ * companyHolidays 는 날짜를 ';' 로, nonWorkingPeriods 는 "유형:시작일~종료일" 을 ';' 로 구분합니다.
+ */
+public class AnnualLeaveCsvMapper {
+
+    private AnnualLeaveCsvMapper() {
+    }
+
+    /**
+     * @param line CSV 첫 줄
+     * @return 열 이름 → 열 위치
+     */
+    public static Map<String, Integer> parseHeader(String line) {
+        if (line == null || line.isBlank()) {
+            throw new AnnualLeaveException(ErrorCode.INVALID_REQUEST_BODY, "CSV 헤더가 없습니다.");
+        }
+        String[] names = line.split(",", -1);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            header.put(names[i].trim(), i);
+        }
+        return header;
+    }
+
+    public static AnnualLeaveRequest toRequest(Map<String, Integer> header, String line) {
+        String[] values = line.split(",", -1);
+        String calculationType = value(header, values, "calculationType");
+        return AnnualLeaveRequest.builder()
+            .calculationType(calculationType == null ? 0 : parseInt(calculationType))
+            .fiscalYear(value(header, values, "fiscalYear"))
+            .hireDate(value(header, values, "hireDate"))
+            .referenceDate(value(header, values, "referenceDate"))
+            .companyHolidays(parseList(value(header, values, "companyHolidays")))
+            .nonWorkingPeriods(parseNonWorkingPeriods(value(header, values, "nonWorkingPeriods")))
+            .build();
+    }
+
+    private static String value(Map<String, Integer> header, String[] values, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= values.length) {
+            return null;
+        }
+        String value = values[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> parseList(String value) {
+        if (value == null) {
+            return null;
+        }
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(";", -1)) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    private static List<NonWorkingPeriodDto> parseNonWorkingPeriods(String value) {
+        List<String> items = parseList(value);
+        if (items == null) {
+            return null;
+        }
+        List<NonWorkingPeriodDto> periods = new ArrayList<>(items.size());
+        for (String item : items) {
+            int colon = item.indexOf(':');
+            int tilde = item.indexOf('~', colon + 1);
+            if (colon < 0 || tilde < 0) {
+                throw new AnnualLeaveException(ErrorCode.INVALID_REQUEST_BODY,
+                    "nonWorkingPeriods=" + item);
+            }
+            periods.add(NonWorkingPeriodDto.builder()
+                .type(parseInt(item.substring(0, colon).trim()))
+                .startDate(item.substring(colon + 1, tilde).trim())
+                .endDate(item.substring(tilde + 1).trim())
+                .build());
+        }
+        return periods;
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new AnnualLeaveException(ErrorCode.INVALID_REQUEST_BODY, value);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.lawding.leavecalc.metrics;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.lawding.leavecalc.util.EnvUtils;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * 요청 한 건의 단계별 소요 시간(나노초)을 모아 CloudWatch Embedded Metric Format(EMF) 로그 한 줄로 기록합니다.
+ * <p>
+ * 수집기는 요청을 처리하는 스레드에 묶이며({@link #start()} ~ {@link #finish(String)}), 흐름·계산기처럼 핸들러
+ * 밖에서 실행되는 단계는 {@link #record(Stage, long)} 로 현재 스레드의 수집기에 더합니다. 수집 중이 아닌 스레드(일괄
+ * 계산 작업 스레드, 예열 등)에서는 아무것도 하지 않습니다.
+ * <p>
+ * EMF 는 로그 이벤트 자체가 JSON 이어야 하므로 로거를 거치지 않고 표준 출력에 씁니다. (네트워크 호출 없음)
+ * STAGE_METRICS_ENABLED=false 이면 기록하지 않고, 네임스페이스는 METRICS_NAMESPACE(기본 LeaveCalc)로 정합니다.
+ */
+public final class StageMetrics {
+
+    public enum Stage {
+        HEADER_VALIDATION("HeaderValidation"),
+        DAILY_USER_RECORDING("DailyUserRecording"),
+        JSON_PARSE("JsonParse"),
+        MAPPING("Mapping"),
+        STRATEGY_SELECTION("StrategySelection"),
+        FLOW("Flow"),
+        HOLIDAY_LOOKUP("HolidayLookup"),
+        CALCULATOR_DISPATCH("CalculatorDispatch"),
+        SERIALIZATION("Serialization"),
+        TOTAL("Total");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private static final boolean ENABLED = EnvUtils.getBoolean("STAGE_METRICS_ENABLED", true);
+    private static final String NAMESPACE = namespace();
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final ThreadLocal<StageMetrics> CURRENT = new ThreadLocal<>();
+    private static final long NOT_RECORDED = -1;
+
+    private final long startNanos = System.nanoTime();
+    private final long[] stageNanos = new long[Stage.values().length];
+    private String calculationType = UNKNOWN;
+    private String leaveType = UNKNOWN;
+
+    StageMetrics() {
+        Arrays.fill(stageNanos, NOT_RECORDED);
+    }
+
+    private static String namespace() {
+        String value = System.getenv("METRICS_NAMESPACE");
+        return value == null || value.isBlank() ? "LeaveCalc" : value.trim();
+    }
+
+    /**
+     * 현재 스레드에서 새 요청의 수집을 시작합니다.
+     */
+    public static StageMetrics start() {
+        StageMetrics metrics = new StageMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    /**
+     * 단계 시작 시각 ({@link #record(Stage, long)} 에 전달)
+     */
+    public static long now() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 현재 스레드의 수집기에 단계 소요 시간을 더합니다. (같은 단계를 여러 번 기록하면 합산)
+     */
+    public static void record(Stage stage, long startNanos) {
+        StageMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.add(stage, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * 지표의 차원 값 (산정 방식, 연차 유형). 정하지 않으면 UNKNOWN 으로 기록합니다.
+     */
+    public static void dimensions(String calculationType, String leaveType) {
+        StageMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.calculationType = calculationType;
+            metrics.leaveType = leaveType;
+        }
+    }
+
+    /**
+     * 수집을 끝내고 전체 소요 시간과 함께 EMF 로그를 기록합니다.
+     */
+    public void finish(String requestId) {
+        CURRENT.remove();
+        add(Stage.TOTAL, System.nanoTime() - startNanos);
+        if (ENABLED) {
+            System.out.println(toEmf(System.currentTimeMillis(), requestId));
+        }
+    }
+
+    void add(Stage stage, long nanos) {
+        int index = stage.ordinal();
+        stageNanos[index] = stageNanos[index] == NOT_RECORDED ? nanos : stageNanos[index] + nanos;
+    }
+
+    /**
+     * 기록된 단계만 마이크로초 단위 지표로 포함합니다. (캐시 적중 시 흐름·계산기 단계 없음)
+     */
+    String toEmf(long timestampMillis, String requestId) {
+        StringWriter out = new StringWriter(512);
+        try (JsonGenerator gen = FACTORY.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeObjectFieldStart("_aws");
+            gen.writeNumberField("Timestamp", timestampMillis);
+            gen.writeArrayFieldStart("CloudWatchMetrics");
+            gen.writeStartObject();
+            gen.writeStringField("Namespace", NAMESPACE);
+            gen.writeArrayFieldStart("Dimensions");
+            gen.writeStartArray();
+            gen.writeString("CalculationType");
+            gen.writeString("LeaveType");
+            gen.writeEndArray();
+            gen.writeEndArray();
+            gen.writeArrayFieldStart("Metrics");
+            for (Stage stage : Stage.values()) {
+                if (stageNanos[stage.ordinal()] != NOT_RECORDED) {
+                    gen.writeStartObject();
+                    gen.writeStringField("Name", stage.metricName());
+                    gen.writeStringField("Unit", "Microseconds");
+                    gen.writeEndObject();
+                }
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+            gen.writeEndArray();
+            gen.writeEndObject();
+
+            gen.writeStringField("CalculationType", calculationType);
+            gen.writeStringField("LeaveType", leaveType);
+            if (requestId != null) {
+                gen.writeStringField("requestId", requestId);
+            }
+            for (Stage stage : Stage.values()) {
+                long nanos = stageNanos[stage.ordinal()];
+                if (nanos != NOT_RECORDED) {
+                    gen.writeNumberField(stage.metricName(), nanos / 1_000.0);
+                }
+            }
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+}
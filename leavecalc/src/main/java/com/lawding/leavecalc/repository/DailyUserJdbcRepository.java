@@ -1,41 +1,138 @@
 package com.lawding.leavecalc.repository;
 
 import com.lawding.leavecalc.db.RdsConnector;
+import com.lawding.leavecalc.domain.DailyUserCount;
 import com.lawding.leavecalc.exception.AnnualLeaveException;
 import com.lawding.leavecalc.exception.ErrorCode;
+import com.lawding.leavecalc.util.EnvUtils;
+import java.security.SecureRandom;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
+/**
+ * 플랫폼 당 요청 수 집계 저장소
+ * <p>
+ * 같은 일자의 한 행에 모든 컨테이너가 몰리지 않도록 일자별로 shardCount 개의 행(daily_user_shard)에 나누어 기록합니다.
+ * 컨테이너마다 기동 시 하나의 샤드를 고르며, 조회 시에는 모든 샤드를 합산합니다. (스키마: src/main/sql/daily_user_shard.sql)
+ */
 public class DailyUserJdbcRepository {
 
-    private static final String SQL_UPSERT_WEB= """
-        INSERT INTO daily_user (record_date, web)
-        VALUES(?,1)
-        ON DUPLICATE KEY UPDATE web = web + 1
+    private static final int DEFAULT_SHARD_COUNT = 16;
+
+    private static final String SQL_UPSERT_COUNTS = """
+        INSERT INTO daily_user_shard (record_date, shard, web, ios)
+        VALUES(?,?,?,?)
+        ON DUPLICATE KEY UPDATE web = web + VALUES(web), ios = ios + VALUES(ios)
         """;
 
-    private static final String SQL_UPSERT_IOS= """
-        INSERT INTO daily_user (record_date, ios)
-        VALUES(?,1)
-        ON DUPLICATE KEY UPDATE ios = ios + 1
+    private static final String SQL_SUM_COUNTS = """
+        SELECT record_date, SUM(web) AS web, SUM(ios) AS ios
+        FROM daily_user_shard
+        WHERE record_date BETWEEN ? AND ?
+        GROUP BY record_date
+        ORDER BY record_date
         """;
 
-    public void incrementCount(LocalDate date, String platform){
-        String sql = switch (platform) {
-            case "web" -> SQL_UPSERT_WEB;
-            case "ios" -> SQL_UPSERT_IOS;
-            default -> throw new AnnualLeaveException(ErrorCode.INVALID_PLATFORM);
-        };
+    private static final int UNSELECTED = -1;
+
+    private final int shardCount;
+    private volatile int shard = UNSELECTED;
+
+    public DailyUserJdbcRepository() {
+        this((int) EnvUtils.getLong("DAILY_USER_SHARDS", DEFAULT_SHARD_COUNT));
+    }
+
+    /**
+     * @param shardCount 일자별 샤드 수 (변경하더라도 조회는 모든 샤드를 합산하므로 안전)
+     */
+    public DailyUserJdbcRepository(int shardCount) {
+        this.shardCount = Math.max(shardCount, 1);
+    }
+
+    /**
+     * 다음 기록 시 이 컨테이너가 기록할 샤드를 다시 고르게 합니다.
+     * <p>
+     * 스냅샷에서 복원된 컨테이너들은 같은 샤드를 물려받으므로 복원 직후 호출합니다.
+     */
+    public void reselectShard() {
+        this.shard = UNSELECTED;
+    }
+
+    /**
+     * 첫 기록 시점에 샤드를 고릅니다. 복원 후에도 난수 상태가 겹치지 않도록 {@link SecureRandom} 을 사용합니다.
+     */
+    private int shard() {
+        int current = shard;
+        if (current == UNSELECTED) {
+            current = new SecureRandom().nextInt(shardCount);
+            shard = current;
+        }
+        return current;
+    }
+
+    /**
+     * 일자별 증가분을 이 컨테이너의 샤드 행에 한 번의 배치로 반영합니다.
+     *
+     * @param counts 일자별 플랫폼 요청 수 증가분
+     */
+    public void addCounts(Collection<DailyUserCount> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        int shard = shard();
+        try (Connection conn = RdsConnector.getConnection();
+            PreparedStatement ps = conn.prepareStatement(SQL_UPSERT_COUNTS)) {
 
+            for (DailyUserCount count : counts) {
+                ps.setDate(1, Date.valueOf(count.recordDate()));
+                ps.setInt(2, shard);
+                ps.setLong(3, count.web());
+                ps.setLong(4, count.ios());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        } catch (SQLException e) {
+            throw new AnnualLeaveException(ErrorCode.DATABASE_QUERY_FAILED);
+        }
+    }
+
+    /**
+     * 기간 [startDate, endDate] 의 일자별 요청 수를 모든 샤드를 합산해 조회합니다.
+     *
+     * @return 일자 오름차순 집계 (기록이 없는 일자는 제외)
+     */
+    public List<DailyUserCount> findCounts(LocalDate startDate, LocalDate endDate) {
         try (Connection conn = RdsConnector.getConnection();
-            PreparedStatement ps = conn.prepareStatement(sql)) {
+            PreparedStatement ps = conn.prepareStatement(SQL_SUM_COUNTS)) {
+
+            ps.setDate(1, Date.valueOf(startDate));
+            ps.setDate(2, Date.valueOf(endDate));
 
-            ps.setDate(1, java.sql.Date.valueOf(date));
-            ps.executeUpdate();
+            try (ResultSet rs = ps.executeQuery()) {
+                List<DailyUserCount> counts = new ArrayList<>();
+                while (rs.next()) {
+                    counts.add(new DailyUserCount(rs.getDate("record_date").toLocalDate(),
+                        rs.getLong("web"), rs.getLong("ios")));
+                }
+                return counts;
+            }
         } catch (SQLException e) {
             throw new AnnualLeaveException(ErrorCode.DATABASE_QUERY_FAILED);
         }
     }
+
+    /**
+     * @return 해당 일자의 모든 샤드를 합산한 요청 수 (기록이 없으면 0)
+     */
+    public DailyUserCount findCount(LocalDate date) {
+        List<DailyUserCount> counts = findCounts(date, date);
+        return counts.isEmpty() ? new DailyUserCount(date, 0, 0) : counts.get(0);
+    }
 }
@@ -4,30 +4,48 @@ import com.lawding.leavecalc.db.RdsConnector;
 import com.lawding.leavecalc.domain.DatePeriod;
 import com.lawding.leavecalc.exception.AnnualLeaveException;
 import com.lawding.leavecalc.exception.ErrorCode;
+import com.lawding.leavecalc.holiday.HolidayProvider;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
-public class HolidayJdbcRepository {
+/**
+ * holidays 테이블에서 공휴일을 조회합니다.
+ * <p>
+ * 조회마다 DB 에 접근하므로 {@link com.lawding.leavecalc.holiday.CachingHolidayProvider} 로 감싸서
+ * 사용합니다. ({@link com.lawding.leavecalc.holiday.HolidayProviders#fromEnv()})
+ */
+public class HolidayJdbcRepository implements HolidayProvider {
 
     private static final String SQL_FIND_HOLIDAYS = """
             SELECT DISTINCT holiday_date FROM holidays
             WHERE holiday_date BETWEEN ? AND ?
         """;
 
+    @Override
     public Set<LocalDate> findWeekdayHolidays(DatePeriod period) {
+        LocalDate from = period.startDate();
+        LocalDate to = period.endDate().plusDays(1);
+        if (to.isBefore(from)) {
+            return Set.of();
+        }
+        return findHolidaysBetween(from, to);
+    }
+
+    /**
+     * 캐시를 거치지 않고 [startDate, endDate] 의 공휴일을 DB에서 직접 조회합니다.
+     */
+    public static Set<LocalDate> findHolidaysBetween(LocalDate startDate, LocalDate endDate) {
         try (Connection conn = RdsConnector.getConnection();
             PreparedStatement ps = conn.prepareStatement(SQL_FIND_HOLIDAYS)) {
 
-            ps.setDate(1, Date.valueOf(period.startDate()));
-            ps.setDate(2, Date.valueOf(period.endDate().plusDays(1)));
+            ps.setDate(1, Date.valueOf(startDate));
+            ps.setDate(2, Date.valueOf(endDate));
 
             try (ResultSet rs = ps.executeQuery()) {
                 Set<LocalDate> holidays = new HashSet<>();
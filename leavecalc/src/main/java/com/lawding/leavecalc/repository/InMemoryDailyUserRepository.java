@@ -0,0 +1,43 @@
+package com.lawding.leavecalc.repository;
+
+import com.lawding.leavecalc.domain.DailyUserCount;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 플랫폼 당 요청 수 집계를 DB 대신 메모리에 기록합니다.
+ * <p>
+ * 부하 재현 도구 등 DB 없이 집계 경로까지 실행해야 하는 로컬 환경에서 사용합니다. (DAILY_USER_STORE=memory)
+ */
+public class InMemoryDailyUserRepository extends DailyUserJdbcRepository {
+
+    private final Map<LocalDate, DailyUserCount> counts = new ConcurrentSkipListMap<>();
+
+    public InMemoryDailyUserRepository() {
+        super(1);
+    }
+
+    @Override
+    public void addCounts(Collection<DailyUserCount> increments) {
+        for (DailyUserCount increment : increments) {
+            counts.merge(increment.recordDate(), increment,
+                (current, added) -> new DailyUserCount(current.recordDate(),
+                    current.web() + added.web(), current.ios() + added.ios()));
+        }
+    }
+
+    @Override
+    public List<DailyUserCount> findCounts(LocalDate startDate, LocalDate endDate) {
+        List<DailyUserCount> result = new ArrayList<>();
+        for (DailyUserCount count : counts.values()) {
+            if (!count.recordDate().isBefore(startDate) && !count.recordDate().isAfter(endDate)) {
+                result.add(count);
+            }
+        }
+        return result;
+    }
+}
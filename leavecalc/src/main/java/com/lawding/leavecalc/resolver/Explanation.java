@@ -0,0 +1,150 @@
+package com.lawding.leavecalc.resolver;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.lawding.leavecalc.domain.CalculationType;
+import com.lawding.leavecalc.domain.FlowStep;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 응답에 포함되는 안내 문구 목록입니다.
+ * <p>
+ * 문구마다 JSON 문자열로 인코딩한 결과(UTF-8 바이트, 문자 배열)를 클래스 로딩 시 한 번만 만들어 두고, 응답 직렬화 시
+ * 다시 이스케이프하지 않고 그대로 기록합니다. ({@link #find(String)}, {@link #json()})
+ * <p>
+ * 코드({@link #code()})는 단계(FlowStep, 산정방식) 또는 특이사항 유형과 분기에서 정한 값으로, 클라이언트가 안내 문구
+ * 대신 받아 {@link ExplanationCatalog} 로 문구를 찾습니다. 한 번 배포한 코드는 바꾸지 않습니다.
+ */
+public enum Explanation {
+
+    // 단계 안내 (FlowStep, CalculationType)
+    LESS_ONE_YEAR_HIRE_DATE("LESS_ONE_YEAR.HD",
+        "입사 1년이 될 때까지, 개근 1개월당 1일의 연차가 발생해요 (최대 11일)"),
+    LESS_ONE_YEAR_FISCAL_YEAR("LESS_ONE_YEAR.FY",
+        "입사 1년이 될 때까지, 개근 1개월당 1일의 연차가 발생해요 (최대 11일), "
+        + "이와 별개로 입사 후 다음연도 회계연도 시작일에 비례연차가 발생해요"),
+    ANNIVERSARY_EVE("ANNIVERSARY_EVE",
+        "입사일로부터 1년이 지났습니다! 오늘까지 개근하였다면 11일의 월차를 사용할 수 있습니다."
+        + " 1년 초과로 근무가 예정되어있다면 다음 출근일에 15일의 연차가 발생합니다."),
+    AFTER_ONE_YEAR_HIRE_DATE("AFTER_ONE_YEAR.HD",
+        "근무기간이 1년 이상인 경우, 1년간 출근율이 80%이상이라면, 1년 1일차 되는 날 15일의 연차가 발생해요."),
+    AFTER_ONE_YEAR_FISCAL_YEAR("AFTER_ONE_YEAR.FY",
+        "근무기간이 1년 이상인 경우, 월차(1년 최대 11개) 사용기간이 종료하여 비례연차만 사용할 수 있어요"),
+    SERVICE_YEARS_3_PLUS_HIRE_DATE("SERVICE_YEARS_3_PLUS.HD",
+        "3년 이상 계속해서 근로하였다면 매 2년에 대해서 1일을 가산한 연차유급휴가를 지급하여야만 합니다."
+        + "즉, 3년차면 15+1일=16일, 5년차 : 15+2일 = 17일… 로 지급합니다."
+        + "단, 연차휴가는 최대 25일을 넘을 수 없습니다(근로기준법 제60조 제4항)"),
+    SERVICE_YEARS_3_PLUS_FISCAL_YEAR("SERVICE_YEARS_3_PLUS.FY",
+        "3년 이상 계속해서 근로하였다면 매 2년에 대해서 1일을 가산한 연차유급휴가를 지급하여야만 합니다. 회계연도로 연차를 산정하는 회사는 FULL-TIME근무횟수로 가산연차를 산정합니다.\n"
+        + "\n"
+        + "따라서, 회계연도 시작일부터 종료일까지 한해를 풀타임으로 2년 근무하고 출근율이 80%를 넘었을 때, 3년차에 비로소 가산연차를 받게 됩니다(15+1일 = 16일)\n"
+        + "\n"
+        + "가산연차를 포함한 연차유급휴가는 최대 25일을 넘을 수 없습니다(근로기준법 제60조 제4항)"),
+    UNDER_AR("UNDER_AR",
+        "무단 결근 등으로 인하여 출근율이 80% 미만이므로 1달 개근시 1일의 월차가 발생해요."),
+
+    // 특이사항 안내 (특이사항 유형, 근속연수, 소정근로비율)
+    ATTENDANCE_DEEMED("NW1", """
+        육아휴직, 출산전후휴가, 예비군훈련, 배우자출산휴가 등의 기간은 출근간주일로 처리되어 연차유급휴가 산정시 “출근”한 것으로 처리합니다.
+        """),
+    ABSENCE_AFTER_ONE_YEAR("NW2.AFTER_ONE_YEAR", """
+        결근일이 있으나, 연차산정기간(1년)간 출근율이 80%이상이라면 다음년도 연차유급휴가 발생에 영향을 주지 않습니다.
+        """),
+    ABSENCE_LESS_ONE_YEAR("NW2.LESS_ONE_YEAR", """
+        근무기간이 1년 미만인 근로자에게 주어지는 월차는 개근한 월에만 주어지게 되므로, 결근일이 있는 월에 월차가 발생하지 않습니다.
+        """),
+    EXCLUDED_LESS_ONE_YEAR("NW3.LESS_ONE_YEAR", """
+        개인사유로 인한 휴직, 질병(산재X)휴직, 병역휴직 등의 경우 해당 기간을 “소정근로기간”에서 제외합니다(고용노동부유권해석_임금근로시간과-1818, 2021.8.12)
+        입사일 기준 매 달 개근하면 발생하는 1일의 연차가 매달 소정근로제외기간 비율만큼 비례하여 발생합니다.
+        """),
+    EXCLUDED_UNDER_PWR("NW3.UNDER_PWR", """
+        개인사유로 인한 휴직, 질병(산재X)휴직, 병역휴직 등의 경우 해당 기간을 “소정근로기간”에서 제외합니다(고용노동부유권해석_임금근로시간과-1818, 2021.8.12)
+        다만, 연차산정 단위기간에서 소정근로제외기간을 제외하였을 때 기간이 80% 미만이 된다면,
+        평상적인 근로관계에서 출근율이 80%이상일 때 산출되었을 연차휴가일수 * (실질 소정근로일/연간 소정근로일)로 비례하여 지급할 연차휴가를 산정하게 됩니다.
+        """),
+    EXCLUDED_OVER_PWR("NW3.OVER_PWR", """
+        개인사유로 인한 휴직, 질병(산재X)휴직, 병역휴직 등의 경우 해당 기간을 “소정근로기간”에서 제외합니다(고용노동부유권해석_임금근로시간과-1818, 2021.8.12)
+        다만, 연차산정 단위기간에서 소정근로제외기간을 제외한다 하더라도 80%이상 출근하였다면, 정상적으로 연차유급휴가를 부여합니다.
+        """);
+
+    private static final Map<FlowStep, Map<CalculationType, Explanation>> BY_STEP =
+        new EnumMap<>(FlowStep.class);
+    private static final Map<String, Explanation> BY_MESSAGE = new HashMap<>();
+
+    static {
+        step(FlowStep.LESS_ONE_YEAR, LESS_ONE_YEAR_HIRE_DATE, LESS_ONE_YEAR_FISCAL_YEAR);
+        step(FlowStep.ANNIVERSARY_EVE, ANNIVERSARY_EVE, ANNIVERSARY_EVE);
+        step(FlowStep.AFTER_ONE_YEAR, AFTER_ONE_YEAR_HIRE_DATE, AFTER_ONE_YEAR_FISCAL_YEAR);
+        step(FlowStep.SERVICE_YEARS_3_PLUS, SERVICE_YEARS_3_PLUS_HIRE_DATE,
+            SERVICE_YEARS_3_PLUS_FISCAL_YEAR);
+        step(FlowStep.UNDER_AR, UNDER_AR, UNDER_AR);
+        for (Explanation explanation : values()) {
+            BY_MESSAGE.put(explanation.message, explanation);
+        }
+    }
+
+    private final String code;
+    private final String message;
+    private final SerializedString encodedCode;
+    private final SerializedString json;
+
+    Explanation(String code, String message) {
+        this.code = code;
+        this.message = message;
+        this.encodedCode = encoded(code);
+        this.json = encoded(message);
+    }
+
+    private static SerializedString encoded(String value) {
+        SerializedString encoded = new SerializedString(value);
+        encoded.asQuotedUTF8(); // 인코딩 결과를 미리 계산해 둠
+        encoded.asQuotedChars();
+        return encoded;
+    }
+
+    private static void step(FlowStep step, Explanation hireDate, Explanation fiscalYear) {
+        Map<CalculationType, Explanation> byType = new EnumMap<>(CalculationType.class);
+        byType.put(CalculationType.HIRE_DATE, hireDate);
+        byType.put(CalculationType.FISCAL_YEAR, fiscalYear);
+        BY_STEP.put(step, byType);
+    }
+
+    /**
+     * @return 단계에 해당하는 안내, 안내가 없는 단계이면 null
+     */
+    public static Explanation of(FlowStep step, CalculationType type) {
+        Map<CalculationType, Explanation> byType = BY_STEP.get(step);
+        return byType == null ? null : byType.get(type);
+    }
+
+    /**
+     * @return 문구가 같은 안내, 목록에 없는 문구이면 null
+     */
+    public static Explanation find(String message) {
+        return BY_MESSAGE.get(message);
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    /**
+     * JSON 문자열로 미리 인코딩한 문구 ({@code JsonGenerator.writeString(SerializableString)} 용)
+     */
+    public SerializableString json() {
+        return json;
+    }
+
+    /**
+     * JSON 문자열로 미리 인코딩한 코드
+     */
+    public SerializableString encodedCode() {
+        return encodedCode;
+    }
+}
@@ -0,0 +1,80 @@
+package com.lawding.leavecalc.resolver;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 안내 코드 → 문구 목록 응답입니다. (코드 응답 모드 클라이언트용)
+ * <p>
+ * 본문은 {@link Explanation} 으로 한 번만 만들고, ETag 는 본문의 SHA-256 으로 정하는 강한 검증자입니다. 문구가
+ * 바뀌어 배포되면 ETag 도 바뀝니다.
+ */
+public final class ExplanationCatalog {
+
+    private static final String JSON = buildJson();
+    private static final String ETAG = "\"" + sha256Hex(JSON) + "\"";
+
+    private ExplanationCatalog() {
+    }
+
+    /**
+     * {"코드":"문구", ...} (선언 순서)
+     */
+    public static String json() {
+        return JSON;
+    }
+
+    public static String etag() {
+        return ETAG;
+    }
+
+    /**
+     * If-None-Match 헤더 값이 현재 목록과 같은지 확인합니다. (쉼표로 구분한 여러 값, *, W/ 접두사 허용)
+     */
+    public static boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(ETAG)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String buildJson() {
+        StringWriter out = new StringWriter(8 * 1024);
+        try (JsonGenerator gen = new JsonFactory().createGenerator(out)) {
+            gen.writeStartObject();
+            for (Explanation explanation : Explanation.values()) {
+                gen.writeFieldName(explanation.code());
+                gen.writeString(explanation.json());
+            }
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.lawding.leavecalc.resolver;
+
+import java.util.Locale;
+
+/**
+ * 응답의 explanations, nonWorkingExplanations 표현 방식
+ * <ul>
+ *     <li>TEXT: 안내 문구 (기본값)</li>
+ *     <li>CODE: {@link Explanation#code()}, 문구는 {@link ExplanationCatalog} 로 조회</li>
+ * </ul>
+ */
+public enum ExplanationFormat {
+    TEXT, CODE;
+
+    /**
+     * X-Explanation-Format 헤더 값 (선택, 값이 code 일 때만 CODE)
+     */
+    public static ExplanationFormat of(String header) {
+        return header != null && header.trim().toLowerCase(Locale.ROOT).equals("code")
+            ? CODE : TEXT;
+    }
+}
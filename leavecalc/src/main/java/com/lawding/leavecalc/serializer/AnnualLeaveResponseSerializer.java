@@ -0,0 +1,353 @@
+package com.lawding.leavecalc.serializer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.MonthlyLeaveRecord;
+import com.lawding.leavecalc.domain.flow.detail.AnnualDetail;
+import com.lawding.leavecalc.domain.flow.detail.CalculationDetail;
+import com.lawding.leavecalc.domain.flow.detail.MonthlyAndProratedDetail;
+import com.lawding.leavecalc.domain.flow.detail.MonthlyDetail;
+import com.lawding.leavecalc.domain.flow.detail.ProratedDetail;
+import com.lawding.leavecalc.dto.AnnualLeaveResponse;
+import com.lawding.leavecalc.dto.BatchItemResponse;
+import com.lawding.leavecalc.dto.request.NonWorkingPeriodDto;
+import com.lawding.leavecalc.exception.AnnualLeaveException;
+import com.lawding.leavecalc.exception.ErrorCode;
+import com.lawding.leavecalc.resolver.Explanation;
+import com.lawding.leavecalc.resolver.ExplanationFormat;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+/**
+ * {@link AnnualLeaveResponse} 와 {@link CalculationDetail} 하위 클래스를 리플렉션 없이 {@link JsonGenerator} 로 직접
+ * 직렬화합니다.
+ * <p>
+ * 필드 이름은 미리 인코딩해 두고, 출력은 ObjectMapper(JavaTimeModule, 날짜 문자열) 직렬화 결과와 바이트 단위로 같습니다.
+ * (필드 순서, {@code @JsonInclude} 규칙 포함) 알 수 없는 상세 타입은 ObjectMapper 로 직렬화합니다.
+ * <p>
+ * {@link ExplanationFormat#CODE} 이면 안내 문구 대신 안내 코드를 기록합니다.
+ */
+public final class AnnualLeaveResponseSerializer {
+
+    private static final ObjectMapper FALLBACK_MAPPER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final JsonFactory FACTORY = FALLBACK_MAPPER.getFactory();
+
+    // AnnualLeaveResponse
+    private static final SerializedString CALCULATION_ID = name("calculationId");
+    private static final SerializedString CALCULATION_TYPE = name("calculationType");
+    private static final SerializedString FISCAL_YEAR = name("fiscalYear");
+    private static final SerializedString HIRE_DATE = name("hireDate");
+    private static final SerializedString REFERENCE_DATE = name("referenceDate");
+    private static final SerializedString NON_WORKING_PERIOD = name("nonWorkingPeriod");
+    private static final SerializedString COMPANY_HOLIDAYS = name("companyHolidays");
+    private static final SerializedString LEAVE_TYPE = name("leaveType");
+    private static final SerializedString CALCULATION_DETAIL = name("calculationDetail");
+    private static final SerializedString EXPLANATIONS = name("explanations");
+    private static final SerializedString NON_WORKING_EXPLANATIONS = name(
+        "nonWorkingExplanations");
+
+    // NonWorkingPeriodDto, DatePeriod
+    private static final SerializedString TYPE = name("type");
+    private static final SerializedString START_DATE = name("startDate");
+    private static final SerializedString END_DATE = name("endDate");
+
+    // CalculationDetail
+    private static final SerializedString ACCRUAL_PERIOD = name("accrualPeriod");
+    private static final SerializedString AVAILABLE_PERIOD = name("availablePeriod");
+    private static final SerializedString ATTENDANCE_RATE = name("attendanceRate");
+    private static final SerializedString PRESCRIBED_WORKING_RATIO = name(
+        "prescribedWorkingRatio");
+    private static final SerializedString SERVICE_YEARS = name("serviceYears");
+    private static final SerializedString TOTAL_LEAVE_DAYS = name("totalLeaveDays");
+    private static final SerializedString BASE_ANNUAL_LEAVE = name("baseAnnualLeave");
+    private static final SerializedString ADDITIONAL_LEAVE = name("additionalLeave");
+    private static final SerializedString RECORDS = name("records");
+    private static final SerializedString PERIOD = name("period");
+    private static final SerializedString MONTHLY_LEAVE = name("monthlyLeave");
+    private static final SerializedString PRESCRIBED_WORKING_RATIO_FOR_PRORATED = name(
+        "prescribedWorkingRatioForProrated");
+    private static final SerializedString MONTHLY_DETAIL = name("monthlyDetail");
+    private static final SerializedString PRORATED_DETAIL = name("proratedDetail");
+
+    // BatchItemResponse
+    private static final SerializedString INDEX = name("index");
+    private static final SerializedString RESULT = name("result");
+    private static final SerializedString ERROR = name("error");
+    private static final SerializedString CODE = name("code");
+    private static final SerializedString MESSAGE = name("message");
+
+    private AnnualLeaveResponseSerializer() {
+    }
+
+    private static SerializedString name(String value) {
+        SerializedString name = new SerializedString(value);
+        name.asQuotedChars(); // 인코딩 결과를 미리 계산해 둠
+        name.asUnquotedUTF8();
+        return name;
+    }
+
+    public static String toJson(AnnualLeaveResponse response) {
+        return toJson(response, ExplanationFormat.TEXT);
+    }
+
+    public static String toJson(AnnualLeaveResponse response, ExplanationFormat format) {
+        StringWriter out = new StringWriter(1024);
+        try (JsonGenerator gen = FACTORY.createGenerator(out)) {
+            write(gen, response, format);
+        } catch (IOException e) {
+            throw new AnnualLeaveException(ErrorCode.SERIALIZATION_FAILED);
+        }
+        return out.toString();
+    }
+
+    public static String toJson(List<BatchItemResponse> responses) {
+        return toJson(responses, ExplanationFormat.TEXT);
+    }
+
+    public static String toJson(List<BatchItemResponse> responses, ExplanationFormat format) {
+        StringWriter out = new StringWriter(1024 * Math.max(1, responses.size()));
+        try (JsonGenerator gen = FACTORY.createGenerator(out)) {
+            gen.writeStartArray();
+            for (BatchItemResponse response : responses) {
+                write(gen, response, format);
+            }
+            gen.writeEndArray();
+        } catch (IOException e) {
+            throw new AnnualLeaveException(ErrorCode.SERIALIZATION_FAILED);
+        }
+        return out.toString();
+    }
+
+    public static String toJson(BatchItemResponse response) {
+        StringWriter out = new StringWriter(1024);
+        try (JsonGenerator gen = FACTORY.createGenerator(out)) {
+            write(gen, response, ExplanationFormat.TEXT);
+        } catch (IOException e) {
+            throw new AnnualLeaveException(ErrorCode.SERIALIZATION_FAILED);
+        }
+        return out.toString();
+    }
+
+    /**
+     * {@code @JsonInclude(NON_NULL)}: result, error 중 값이 있는 쪽만 기록
+     */
+    public static void write(JsonGenerator gen, BatchItemResponse response,
+        ExplanationFormat format) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(INDEX);
+        gen.writeNumber(response.index());
+        if (response.result() != null) {
+            gen.writeFieldName(RESULT);
+            write(gen, response.result(), format);
+        }
+        if (response.error() != null) {
+            gen.writeFieldName(ERROR);
+            gen.writeStartObject();
+            writeString(gen, CODE, response.error().code());
+            writeString(gen, MESSAGE, response.error().message());
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * {@code @JsonInclude(NON_EMPTY)}: null, 빈 문자열, 빈 목록은 생략
+     */
+    public static void write(JsonGenerator gen, AnnualLeaveResponse response,
+        ExplanationFormat format) throws IOException {
+        gen.writeStartObject();
+        writeNonEmpty(gen, CALCULATION_ID, response.calculationId());
+        writeNonEmpty(gen, CALCULATION_TYPE, response.calculationType());
+        writeNonEmpty(gen, FISCAL_YEAR, response.fiscalYear());
+        writeNonEmpty(gen, HIRE_DATE, response.hireDate());
+        writeNonEmpty(gen, REFERENCE_DATE, response.referenceDate());
+        List<NonWorkingPeriodDto> periods = response.nonWorkingPeriod();
+        if (periods != null && !periods.isEmpty()) {
+            gen.writeFieldName(NON_WORKING_PERIOD);
+            gen.writeStartArray();
+            for (NonWorkingPeriodDto period : periods) {
+                writeNonWorkingPeriod(gen, period);
+            }
+            gen.writeEndArray();
+        }
+        writeNonEmpty(gen, COMPANY_HOLIDAYS, response.companyHolidays());
+        writeNonEmpty(gen, LEAVE_TYPE, response.leaveType());
+        if (response.calculationDetail() != null) {
+            gen.writeFieldName(CALCULATION_DETAIL);
+            writeDetail(gen, response.calculationDetail());
+        }
+        writeExplanations(gen, EXPLANATIONS, response.explanations(), format);
+        writeExplanations(gen, NON_WORKING_EXPLANATIONS, response.nonWorkingExplanations(),
+            format);
+        gen.writeEndObject();
+    }
+
+    /**
+     * {@code @JsonInclude(NON_NULL)}: 상위 클래스 필드, 하위 클래스 필드 순으로 기록
+     */
+    public static void writeDetail(JsonGenerator gen, CalculationDetail detail)
+        throws IOException {
+        if (!(detail instanceof AnnualDetail || detail instanceof MonthlyDetail
+              || detail instanceof ProratedDetail || detail instanceof MonthlyAndProratedDetail)) {
+            gen.writeObject(detail);
+            return;
+        }
+        gen.writeStartObject();
+        if (detail.getAccrualPeriod() != null) {
+            gen.writeFieldName(ACCRUAL_PERIOD);
+            writeDatePeriod(gen, detail.getAccrualPeriod());
+        }
+        if (detail.getAvailablePeriod() != null) {
+            gen.writeFieldName(AVAILABLE_PERIOD);
+            writeDatePeriod(gen, detail.getAvailablePeriod());
+        }
+        if (detail.getAttendanceRate() != null) {
+            gen.writeFieldName(ATTENDANCE_RATE);
+            gen.writeNumber(detail.getAttendanceRate());
+        }
+        if (detail.getPrescribedWorkingRatio() != null) {
+            gen.writeFieldName(PRESCRIBED_WORKING_RATIO);
+            gen.writeNumber(detail.getPrescribedWorkingRatio());
+        }
+        gen.writeFieldName(SERVICE_YEARS);
+        gen.writeNumber(detail.getServiceYears());
+        gen.writeFieldName(TOTAL_LEAVE_DAYS);
+        gen.writeNumber(detail.getTotalLeaveDays());
+
+        if (detail instanceof AnnualDetail annual) {
+            gen.writeFieldName(BASE_ANNUAL_LEAVE);
+            gen.writeNumber(annual.getBaseAnnualLeave());
+            gen.writeFieldName(ADDITIONAL_LEAVE);
+            gen.writeNumber(annual.getAdditionalLeave());
+        } else if (detail instanceof MonthlyDetail monthly) {
+            if (monthly.getRecords() != null) {
+                gen.writeFieldName(RECORDS);
+                gen.writeStartArray();
+                for (MonthlyLeaveRecord record : monthly.getRecords()) {
+                    writeMonthlyLeaveRecord(gen, record);
+                }
+                gen.writeEndArray();
+            }
+        } else if (detail instanceof ProratedDetail prorated) {
+            gen.writeFieldName(PRESCRIBED_WORKING_RATIO_FOR_PRORATED);
+            gen.writeNumber(prorated.getPrescribedWorkingRatioForProrated());
+        } else if (detail instanceof MonthlyAndProratedDetail combined) {
+            if (combined.getMonthlyDetail() != null) {
+                gen.writeFieldName(MONTHLY_DETAIL);
+                writeDetail(gen, combined.getMonthlyDetail());
+            }
+            if (combined.getProratedDetail() != null) {
+                gen.writeFieldName(PRORATED_DETAIL);
+                writeDetail(gen, combined.getProratedDetail());
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeMonthlyLeaveRecord(JsonGenerator gen, MonthlyLeaveRecord record)
+        throws IOException {
+        if (record == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(PERIOD);
+        writeDatePeriod(gen, record.getPeriod());
+        gen.writeFieldName(MONTHLY_LEAVE);
+        gen.writeNumber(record.getMonthlyLeave());
+        gen.writeEndObject();
+    }
+
+    private static void writeDatePeriod(JsonGenerator gen, DatePeriod period) throws IOException {
+        if (period == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        writeString(gen, START_DATE,
+            period.startDate() == null ? null : period.startDate().toString());
+        writeString(gen, END_DATE, period.endDate() == null ? null : period.endDate().toString());
+        gen.writeEndObject();
+    }
+
+    private static void writeNonWorkingPeriod(JsonGenerator gen, NonWorkingPeriodDto period)
+        throws IOException {
+        if (period == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(TYPE);
+        gen.writeNumber(period.getType());
+        writeString(gen, START_DATE, period.getStartDate());
+        writeString(gen, END_DATE, period.getEndDate());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value)
+        throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeNonEmpty(JsonGenerator gen, SerializedString name, String value)
+        throws IOException {
+        if (value != null && !value.isEmpty()) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    /**
+     * {@link Explanation} 문구는 미리 인코딩해 둔 문구(TEXT) 또는 코드(CODE)를 그대로 기록, 목록에 없는 문구는 문구로 기록
+     */
+    private static void writeExplanations(JsonGenerator gen, SerializedString name,
+        List<String> values, ExplanationFormat format) throws IOException {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        gen.writeFieldName(name);
+        gen.writeStartArray();
+        for (String value : values) {
+            Explanation explanation = value == null ? null : Explanation.find(value);
+            if (explanation != null) {
+                gen.writeString(format == ExplanationFormat.CODE ? explanation.encodedCode()
+                    : explanation.json());
+            } else if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(value);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeNonEmpty(JsonGenerator gen, SerializedString name,
+        List<String> values) throws IOException {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        gen.writeFieldName(name);
+        gen.writeStartArray();
+        for (String value : values) {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(value);
+            }
+        }
+        gen.writeEndArray();
+    }
+}
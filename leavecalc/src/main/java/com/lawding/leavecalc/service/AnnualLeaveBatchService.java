@@ -0,0 +1,258 @@
+package com.lawding.leavecalc.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.dto.AnnualLeaveResponse;
+import com.lawding.leavecalc.dto.AnnualLeaveResult;
+import com.lawding.leavecalc.dto.BatchItemResponse;
+import com.lawding.leavecalc.dto.request.AnnualLeaveRequest;
+import com.lawding.leavecalc.exception.AnnualLeaveException;
+import com.lawding.leavecalc.exception.ErrorCode;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.holiday.PrefetchedHolidayProvider;
+import com.lawding.leavecalc.mapper.AnnualLeaveMapper;
+import com.lawding.leavecalc.strategy.factory.CalculationStrategyFactory;
+import com.lawding.leavecalc.util.AnnualLeaveRequestValidator;
+import com.lawding.leavecalc.util.EnvUtils;
+import com.lawding.leavecalc.util.LogUtil;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+
+/**
+ * 여러 건의 연차 계산 요청을 한 번에 처리합니다.
+ * <p>
+ * 항목마다 독립적으로 변환·검증하고, 필요한 공휴일 기간이 겹치는 항목끼리 묶어 묶음당 공휴일을 한 번만 조회합니다. 계산은
+ * 크기가 고정된 스레드 풀에서 병렬로 실행하며, 결과는 요청 배열 순서대로 항목별 성공/오류로 반환합니다.
+ */
+public class AnnualLeaveBatchService {
+
+    private static final Logger logger = LogUtil.getLogger(AnnualLeaveBatchService.class);
+
+    /**
+     * 산정 흐름이 공휴일을 조회하는 기간은 기준일 이전 3년 안에 있습니다. (직전 회계연도, 입사 후 첫 회계연도 등)
+     */
+    private static final int HOLIDAY_LOOKBACK_YEARS = 3;
+
+    private final ObjectReader requestReader;
+    private final HolidayProvider holidayProvider;
+    private final ExecutorService executor;
+    private final int maxItems;
+
+    public AnnualLeaveBatchService(ObjectMapper mapper, HolidayProvider holidayProvider,
+        ExecutorService executor, int maxItems) {
+        this.requestReader = mapper.readerFor(AnnualLeaveRequest.class);
+        this.holidayProvider = holidayProvider;
+        this.executor = executor;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 환경변수로 병렬도(BATCH_PARALLELISM, 기본 CPU 수)와 최대 건수(BATCH_MAX_ITEMS, 기본 1000)를 설정합니다.
+     */
+    public static AnnualLeaveBatchService fromEnv(ObjectMapper mapper,
+        HolidayProvider holidayProvider) {
+        int parallelism = (int) Math.max(1, EnvUtils.getLong("BATCH_PARALLELISM",
+            Runtime.getRuntime().availableProcessors()));
+        int maxItems = (int) Math.max(1, EnvUtils.getLong("BATCH_MAX_ITEMS", 1000));
+        return new AnnualLeaveBatchService(mapper, holidayProvider,
+            Executors.newFixedThreadPool(parallelism, daemonThreadFactory()), maxItems);
+    }
+
+    /**
+     * @param items 요청 배열 (각 원소는 {@link AnnualLeaveRequest} 형식)
+     * @return 요청 순서대로 정렬된 항목별 결과
+     */
+    public List<BatchItemResponse> calculate(JsonNode items) {
+        if (items == null || !items.isArray()) {
+            throw new AnnualLeaveException(ErrorCode.INVALID_REQUEST_BODY);
+        }
+        int size = items.size();
+        if (size > maxItems) {
+            throw new AnnualLeaveException(ErrorCode.BATCH_SIZE_EXCEEDED,
+                "size=" + size + ", max=" + maxItems);
+        }
+
+        BatchItemResponse[] responses = new BatchItemResponse[size];
+        AnnualLeaveContext[] contexts = new AnnualLeaveContext[size];
+        for (int i = 0; i < size; i++) {
+            try {
+                AnnualLeaveRequest request = requestReader.readValue(items.get(i));
+                AnnualLeaveRequestValidator.validate(request);
+                contexts[i] = AnnualLeaveMapper.toContext(request);
+            } catch (Exception e) {
+                responses[i] = failure(i, e);
+            }
+        }
+
+        HolidayProvider[] providers = prefetchHolidays(contexts, responses);
+
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        List<Future<BatchItemResponse>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (responses[i] != null) {
+                futures.add(null);
+                continue;
+            }
+            int index = i;
+            AnnualLeaveContext context = contexts[i];
+            HolidayProvider provider = providers[i];
+            futures.add(executor.submit(() -> calculateItem(index, context, provider, mdc)));
+        }
+
+        for (int i = 0; i < size; i++) {
+            Future<BatchItemResponse> future = futures.get(i);
+            if (future == null) {
+                continue;
+            }
+            try {
+                responses[i] = future.get();
+            } catch (ExecutionException e) {
+                responses[i] = failure(i, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AnnualLeaveException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+        }
+        return Arrays.asList(responses);
+    }
+
+    /**
+     * 항목별 공휴일 조회 기간을 겹치거나 맞닿는 것끼리 병합하고, 병합된 기간마다 한 번만 조회합니다.
+     * <p>
+     * 조회에 실패한 묶음의 항목은 오류로 채웁니다.
+     */
+    private HolidayProvider[] prefetchHolidays(AnnualLeaveContext[] contexts,
+        BatchItemResponse[] responses) {
+        HolidayProvider[] providers = new HolidayProvider[contexts.length];
+        Integer[] order = new Integer[contexts.length];
+        int count = 0;
+        for (int i = 0; i < contexts.length; i++) {
+            if (contexts[i] != null) {
+                order[count++] = i;
+            }
+        }
+        Arrays.sort(order, 0, count,
+            Comparator.comparing((Integer i) -> holidayRange(contexts[i]).startDate()));
+
+        int groups = 0;
+        int groupStart = 0;
+        while (groupStart < count) {
+            DatePeriod range = holidayRange(contexts[order[groupStart]]);
+            LocalDate end = range.endDate();
+            int groupEnd = groupStart + 1;
+            while (groupEnd < count) {
+                DatePeriod next = holidayRange(contexts[order[groupEnd]]);
+                if (next.startDate().isAfter(end.plusDays(1))) {
+                    break;
+                }
+                if (next.endDate().isAfter(end)) {
+                    end = next.endDate();
+                }
+                groupEnd++;
+            }
+
+            DatePeriod groupRange = new DatePeriod(range.startDate(), end);
+            try {
+                HolidayProvider provider = PrefetchedHolidayProvider.fetch(holidayProvider,
+                    groupRange);
+                for (int k = groupStart; k < groupEnd; k++) {
+                    providers[order[k]] = provider;
+                }
+            } catch (Exception e) {
+                logger.warn("일괄 계산 공휴일 조회 실패: range={}, {}", groupRange, e.getMessage());
+                for (int k = groupStart; k < groupEnd; k++) {
+                    responses[order[k]] = failure(order[k], e);
+                }
+            }
+            groups++;
+            groupStart = groupEnd;
+        }
+        logger.info("일괄 계산 공휴일 조회: items={}, groups={}", count, groups);
+        return providers;
+    }
+
+    static DatePeriod holidayRange(AnnualLeaveContext context) {
+        LocalDate referenceDate = context.getReferenceDate();
+        return new DatePeriod(referenceDate.minusYears(HOLIDAY_LOOKBACK_YEARS), referenceDate);
+    }
+
+    private static BatchItemResponse calculateItem(int index, AnnualLeaveContext context,
+        HolidayProvider provider, Map<String, String> mdc) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            AnnualLeaveResult result = CalculationStrategyFactory.from(context, provider)
+                .annualLeaveCalculate(context);
+            return BatchItemResponse.success(index,
+                AnnualLeaveResponse.of(result, UUID.randomUUID().toString()));
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    /**
+     * 한 건을 검증·계산합니다. 공휴일 사전 조회 없이 한 건씩 처리하는 경우(대량 계산 CLI 등)에 사용합니다.
+     *
+     * @return 계산 결과 또는 오류 (예외를 던지지 않음)
+     */
+    public static BatchItemResponse calculate(int index, AnnualLeaveRequest request,
+        HolidayProvider provider) {
+        try {
+            AnnualLeaveRequestValidator.validate(request);
+            AnnualLeaveContext context = AnnualLeaveMapper.toContext(request);
+            AnnualLeaveResult result = CalculationStrategyFactory.from(context, provider)
+                .annualLeaveCalculate(context);
+            return BatchItemResponse.success(index,
+                AnnualLeaveResponse.of(result, UUID.randomUUID().toString()));
+        } catch (Exception e) {
+            return failure(index, e);
+        }
+    }
+
+    /**
+     * 예외를 항목 오류로 변환합니다. 요청 형식 오류는 E103, 예상하지 못한 오류는 E999 로 응답합니다.
+     */
+    public static BatchItemResponse failure(int index, Throwable e) {
+        if (e instanceof AnnualLeaveException exception) {
+            return BatchItemResponse.failure(index, exception.getErrorCode().getCode(),
+                exception.getMessage());
+        }
+        if (e instanceof JsonProcessingException || e instanceof DateTimeException
+            || e instanceof IllegalArgumentException) {
+            return BatchItemResponse.failure(index, ErrorCode.INVALID_REQUEST_BODY.getCode(),
+                ErrorCode.INVALID_REQUEST_BODY.getMessage());
+        }
+        logger.error("일괄 계산 항목 처리 중 오류 발생: index={}, {}", index, e.getMessage(), e);
+        return BatchItemResponse.failure(index, ErrorCode.INTERNAL_SERVER_ERROR.getCode(),
+            ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable,
+                "annual-leave-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
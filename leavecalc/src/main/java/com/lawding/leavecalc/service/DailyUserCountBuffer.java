@@ -0,0 +1,146 @@
+package com.lawding.leavecalc.service;
+
+import com.lawding.leavecalc.domain.DailyUserCount;
+import com.lawding.leavecalc.exception.AnnualLeaveException;
+import com.lawding.leavecalc.exception.ErrorCode;
+import com.lawding.leavecalc.repository.DailyUserJdbcRepository;
+import com.lawding.leavecalc.util.LogUtil;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+
+/**
+ * 플랫폼 요청 수를 메모리에 모았다가 한 번의 배치 upsert 로 반영하는 write-behind 버퍼입니다.
+ * <p>
+ * 요청 처리 중에는 {@link LongAdder} 만 증가시키며, 다음 중 하나에 해당할 때 DB 에 반영합니다.
+ * <ul>
+ *     <li>마지막 반영 후 flushInterval 이 지난 경우</li>
+ *     <li>반영되지 않은 건수가 flushThreshold 이상인 경우</li>
+ *     <li>{@link #flushQuietly()} 를 직접 호출한 경우, 또는 JVM 종료 시({@link #registerShutdownFlush()})</li>
+ * </ul>
+ * Lambda 는 종료 훅 없이 동결·회수될 수 있으므로 요청마다 {@link #flushQuietly()} 로 반영하고, 주기·건수 기준
+ * 반영은 주기 반영과 종료 처리가 보장되는 상시 실행 모드(HTTP 서버)에서만 사용합니다.
+ * 반영에 실패한 증가분은 버퍼로 되돌려 다음 반영 때 다시 시도합니다.
+ */
+public class DailyUserCountBuffer {
+
+    private static final Logger logger = LogUtil.getLogger(DailyUserCountBuffer.class);
+
+    private record Key(LocalDate date, String platform) {
+
+    }
+
+    private final DailyUserJdbcRepository repository;
+    private final long flushIntervalMillis;
+    private final long flushThreshold;
+    private final Clock clock;
+
+    private final Map<Key, LongAdder> counters = new ConcurrentHashMap<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile long lastFlushMillis;
+
+    public DailyUserCountBuffer(DailyUserJdbcRepository repository, Duration flushInterval,
+        long flushThreshold) {
+        this(repository, flushInterval, flushThreshold, Clock.systemDefaultZone());
+    }
+
+    DailyUserCountBuffer(DailyUserJdbcRepository repository, Duration flushInterval,
+        long flushThreshold, Clock clock) {
+        this.repository = repository;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.flushThreshold = flushThreshold;
+        this.clock = clock;
+        this.lastFlushMillis = clock.millis();
+    }
+
+    public void increment(String platform) {
+        if (!platform.equals("web") && !platform.equals("ios")) {
+            throw new AnnualLeaveException(ErrorCode.INVALID_PLATFORM);
+        }
+        add(new Key(LocalDate.now(clock), platform), 1);
+    }
+
+    /**
+     * 반영 주기가 지났거나 쌓인 건수가 임계값 이상이면 DB 에 반영합니다. 실패해도 예외를 던지지 않습니다.
+     */
+    public void flushIfDue() {
+        boolean intervalElapsed = clock.millis() - lastFlushMillis >= flushIntervalMillis;
+        if (pending.get() > 0 && (intervalElapsed || pending.get() >= flushThreshold)) {
+            flushQuietly();
+        }
+    }
+
+    /**
+     * 쌓인 증가분을 즉시 반영합니다. 실패해도 예외를 던지지 않습니다.
+     */
+    public void flushQuietly() {
+        flushLock.lock();
+        try {
+            List<DailyUserCount> counts = drain();
+            lastFlushMillis = clock.millis();
+            if (counts.isEmpty()) {
+                return;
+            }
+            try {
+                repository.addCounts(counts);
+                logger.info("플랫폼 당 요청 수 반영 완료: {}", counts);
+            } catch (RuntimeException | LinkageError e) {
+                // LinkageError: RDS 설정 누락 등으로 커넥터 초기화에 실패한 경우
+                logger.error("플랫폼 당 요청 수 반영 실패, 다음 반영 시 재시도: {}", e.getMessage(), e);
+                counts.forEach(count -> {
+                    add(new Key(count.recordDate(), "web"), count.web());
+                    add(new Key(count.recordDate(), "ios"), count.ios());
+                });
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * JVM 종료 시 남은 집계를 반영하도록 등록합니다.
+     */
+    public void registerShutdownFlush() {
+        Runtime.getRuntime()
+            .addShutdownHook(new Thread(this::flushQuietly, "daily-user-flush-on-shutdown"));
+    }
+
+    public long pendingCount() {
+        return pending.get();
+    }
+
+    private void add(Key key, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(amount);
+        pending.addAndGet(amount);
+    }
+
+    private List<DailyUserCount> drain() {
+        Map<LocalDate, long[]> byDate = new TreeMap<>();
+        counters.forEach((key, adder) -> {
+            long count = adder.sumThenReset();
+            if (count == 0) {
+                return;
+            }
+            pending.addAndGet(-count);
+            long[] platforms = byDate.computeIfAbsent(key.date(), d -> new long[2]);
+            platforms[key.platform().equals("web") ? 0 : 1] += count;
+        });
+        List<DailyUserCount> counts = new ArrayList<>();
+        byDate.forEach((date, platforms) ->
+            counts.add(new DailyUserCount(date, platforms[0], platforms[1])));
+        return counts;
+    }
+}
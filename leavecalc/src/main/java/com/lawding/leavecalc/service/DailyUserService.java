@@ -1,19 +1,53 @@
 package com.lawding.leavecalc.service;
 
-import com.lawding.leavecalc.repository.DailyUserJdbcRepository;
-import java.time.LocalDate;
-
 public class DailyUserService {
 
-    private final DailyUserJdbcRepository dailyUserRepository;
+    private final DailyUserCountBuffer countBuffer;
+    private final boolean enabled;
 
     // 생성자 주입
-    public DailyUserService(DailyUserJdbcRepository dailyUserRepository) {
-        this.dailyUserRepository = dailyUserRepository;
+    public DailyUserService(DailyUserCountBuffer countBuffer) {
+        this(countBuffer, true);
+    }
+
+    /**
+     * @param enabled false 인 경우 집계를 기록하지 않습니다. (DB 없이 동작하는 배포)
+     */
+    public DailyUserService(DailyUserCountBuffer countBuffer, boolean enabled) {
+        this.countBuffer = countBuffer;
+        this.enabled = enabled;
     }
+
+    /**
+     * 요청 수를 버퍼에만 반영합니다. DB 반영은 {@link #flushIfDue()} 에서 일괄 처리됩니다.
+     */
     public void recordUser(String platform, boolean testMode){
-        if(!testMode){
-            dailyUserRepository.incrementCount(LocalDate.now(),platform);
+        if(enabled && !testMode){
+            countBuffer.increment(platform);
+        }
+    }
+
+    /**
+     * 반영 조건을 만족하면 쌓인 집계를 DB 에 반영합니다. (상시 실행 모드의 요청 종료 시, 주기 반영)
+     */
+    public void flushIfDue() {
+        if (enabled) {
+            countBuffer.flushIfDue();
+        }
+    }
+
+    /**
+     * 반영 조건과 관계없이 쌓인 집계를 DB 에 반영합니다. 실패해도 예외를 던지지 않습니다. (Lambda 요청 종료 시, 서버 종료 등)
+     */
+    public void flush() {
+        if (enabled) {
+            countBuffer.flushQuietly();
+        }
+    }
+
+    public void registerShutdownFlush() {
+        if (enabled) {
+            countBuffer.registerShutdownFlush();
         }
     }
 }
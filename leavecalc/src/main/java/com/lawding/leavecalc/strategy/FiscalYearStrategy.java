@@ -15,6 +15,8 @@ import com.lawding.leavecalc.dto.AnnualLeaveResult;
 import com.lawding.leavecalc.domain.flow.detail.CalculationDetail;
 import com.lawding.leavecalc.dto.request.NonWorkingPeriodDto;
 import com.lawding.leavecalc.flow.CalculationFlow;
+import com.lawding.leavecalc.metrics.StageMetrics;
+import com.lawding.leavecalc.metrics.StageMetrics.Stage;
 import java.util.List;
 
 public final class FiscalYearStrategy implements CalculationStrategy {
@@ -32,8 +34,13 @@ public final class FiscalYearStrategy implements CalculationStrategy {
      */
     @Override
     public AnnualLeaveResult annualLeaveCalculate(AnnualLeaveContext context) {
+        long flowStart = StageMetrics.now();
         FlowResult flowResult = flow.process(context);
+        StageMetrics.record(Stage.FLOW, flowStart);
+
+        long dispatchStart = StageMetrics.now();
         CalculationDetail calculationDetail = CalculationDispatcher.calculate(flowResult);
+        StageMetrics.record(Stage.CALCULATOR_DISPATCH, dispatchStart);
 
         List<NonWorkingPeriodDto> nonWorkingPeriod = toDtoList(context.getNonWorkingPeriods());
 
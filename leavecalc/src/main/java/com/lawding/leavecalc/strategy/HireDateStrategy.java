@@ -12,6 +12,8 @@ import com.lawding.leavecalc.dto.AnnualLeaveResult;
 import com.lawding.leavecalc.domain.flow.FlowResult;
 import com.lawding.leavecalc.dto.request.NonWorkingPeriodDto;
 import com.lawding.leavecalc.flow.CalculationFlow;
+import com.lawding.leavecalc.metrics.StageMetrics;
+import com.lawding.leavecalc.metrics.StageMetrics.Stage;
 import java.util.List;
 
 
@@ -29,8 +31,13 @@ public final class HireDateStrategy implements CalculationStrategy {
      */
     @Override
     public AnnualLeaveResult annualLeaveCalculate(AnnualLeaveContext context) {
+        long flowStart = StageMetrics.now();
         FlowResult flowResult = flow.process(context);
+        StageMetrics.record(Stage.FLOW, flowStart);
+
+        long dispatchStart = StageMetrics.now();
         CalculationDetail calculationDetail = CalculationDispatcher.calculate(flowResult);
+        StageMetrics.record(Stage.CALCULATOR_DISPATCH, dispatchStart);
 
         List<NonWorkingPeriodDto> nonWorkingPeriod = toDtoList(
             context.getNonWorkingPeriods());
@@ -3,20 +3,37 @@ package com.lawding.leavecalc.strategy.factory;
 import com.lawding.leavecalc.domain.AnnualLeaveContext;
 import com.lawding.leavecalc.flow.FiscalYearFlow;
 import com.lawding.leavecalc.flow.HireDateFlow;
-import com.lawding.leavecalc.repository.HolidayJdbcRepository;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.holiday.HolidayProviders;
 import com.lawding.leavecalc.strategy.CalculationStrategy;
 import com.lawding.leavecalc.strategy.FiscalYearStrategy;
 import com.lawding.leavecalc.strategy.HireDateStrategy;
 
 public class CalculationStrategyFactory {
 
-    private static final HolidayJdbcRepository holidayRepository = new HolidayJdbcRepository();
+    private static final HolidayProvider holidayProvider = HolidayProviders.fromEnv();
+
     public static CalculationStrategy from(AnnualLeaveContext context) {
+        return from(context, holidayProvider);
+    }
+
+    /**
+     * @return 환경변수로 구성한 기본 공휴일 조회 ({@link HolidayProviders#fromEnv()})
+     */
+    public static HolidayProvider holidayProvider() {
+        return holidayProvider;
+    }
+
+    /**
+     * 지정한 공휴일 조회로 계산 전략을 만듭니다. (기동 전 예열, 테스트 등)
+     */
+    public static CalculationStrategy from(AnnualLeaveContext context,
+        HolidayProvider holidayProvider) {
         return switch (context.getCalculationType()) {
             case HIRE_DATE ->
-                new HireDateStrategy(new HireDateFlow(holidayRepository));
+                new HireDateStrategy(new HireDateFlow(holidayProvider));
             case FISCAL_YEAR ->
-                new FiscalYearStrategy(new FiscalYearFlow(holidayRepository));
+                new FiscalYearStrategy(new FiscalYearFlow(holidayProvider));
         };
     }
 
@@ -3,13 +3,12 @@ package com.lawding.leavecalc.util;
 import static com.lawding.leavecalc.constant.AnnualLeaveConstants.*;
 
 import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.DaySet;
 import com.lawding.leavecalc.domain.FlowStep;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class AnnualLeaveHelper {
 
@@ -60,13 +59,6 @@ public class AnnualLeaveHelper {
     }
 
 
-    private static DatePeriod intersectPeriod(DatePeriod p1, DatePeriod p2) {
-        LocalDate start = p1.startDate().isAfter(p2.startDate()) ? p1.startDate() : p2.startDate();
-        LocalDate end = p1.endDate().isBefore(p2.endDate()) ? p1.endDate() : p2.endDate();
-        return end.isBefore(start) ? null : new DatePeriod(start, end);
-    }
-
-
     /**
      * @param prescribedWorkingDays 소정근로일 수(연차 산정 기간에서의 근무날 수)
      * @param excludedWorkingDays   소정근로제외일 수
@@ -112,65 +104,90 @@ public class AnnualLeaveHelper {
      */
     public static int countPrescribedWorkingDays(DatePeriod accrualPeriod,
         Set<LocalDate> statutoryHolidays) {
+        return countPrescribedWorkingDays(accrualPeriod, WorkingDayCalendar.of(statutoryHolidays));
+    }
 
-        Set<LocalDate> holidays = (statutoryHolidays == null) ? Set.of() : statutoryHolidays;
-
-        long days = accrualPeriod.startDate().datesUntil(accrualPeriod.endDate().plusDays(1))
-            .filter(AnnualLeaveHelper::isWeekday)
-            .filter(day -> !holidays.contains(day))
-            .count();
-
-        return (int) days;
+    /**
+     * @param accrualPeriod 산정 기간 [startDate, endDate] 포함
+     * @param calendar      소정근로일 달력
+     * @return 소정근로일 수
+     */
+    public static int countPrescribedWorkingDays(DatePeriod accrualPeriod,
+        WorkingDayCalendar calendar) {
+        return calendar.countWorkingDays(accrualPeriod);
     }
 
     /**
      * 산정 기간 내 기간(결근처리기간 or 소정근로제외기간) 내 평일 수를 계산한다. - 제외기간과 산정기간의 교집합 구간에서 주말/법정공휴일을 제외한 평일만 센다.
      *
-     * @param accrualPeriod     연차 산정 기간
-     * @param periods           기간(결근처리, 소정근로제외)
-     * @param statutoryHolidays 법정 공휴일
+     * @param accrualPeriod 연차 산정 기간
+     * @param periods       기간(결근처리, 소정근로제외)
+     * @param calendar      소정근로일 달력
      * @return 순수 소정근로일(평일) 수
      */
-    public static Set<LocalDate> getWorkingDaysInPeriods(DatePeriod accrualPeriod,
-        List<DatePeriod> periods, Set<LocalDate> statutoryHolidays) {
-        if (periods == null || periods.isEmpty()) {
-            return Set.of();
-        }
+    public static int countWorkingDaysInPeriods(DatePeriod accrualPeriod,
+        List<DatePeriod> periods, WorkingDayCalendar calendar) {
+        return DayIntervals.of(periods, accrualPeriod).countWorkingDays(calendar);
+    }
 
-        Set<LocalDate> holidays = (statutoryHolidays == null) ? Set.of() : statutoryHolidays;
+    /**
+     * 소정근로제외기간과 회사자체휴일을 합친 순수 소정근로일 수를 계산한다. - 두 집합에 모두 속한 날은 한 번만 센다.
+     *
+     * @param accrualPeriod   연차 산정 기간
+     * @param excludedPeriods 소정근로제외기간
+     * @param companyHoliday  회사 지정 휴일
+     * @param calendar        소정근로일 달력
+     * @return 순수 소정근로제외일 + 회사자체휴일 수
+     */
+    public static int countExcludedWorkingDays(DatePeriod accrualPeriod,
+        List<DatePeriod> excludedPeriods, List<LocalDate> companyHoliday,
+        WorkingDayCalendar calendar) {
+        DayIntervals excluded = DayIntervals.of(excludedPeriods, accrualPeriod);
+        int count = excluded.countWorkingDays(calendar);
+        if (companyHoliday == null || companyHoliday.isEmpty()) {
+            return count;
+        }
+        return count + (int) getWorkingDaysInCompanyHolidays(accrualPeriod, companyHoliday, calendar)
+            .epochDays()
+            .filter(day -> !excluded.contains(day))
+            .count();
+    }
 
-        return periods.stream()
-            .map(p -> intersectPeriod(p, accrualPeriod)) // 교집합
-            .filter(Objects::nonNull)
-            .flatMap(p -> p.startDate().datesUntil(p.endDate().plusDays(1)))
-            .filter(AnnualLeaveHelper::isWeekday)        // 주말 제외
-            .filter(d -> !holidays.contains(d))        // 공휴일 제외
-            .collect(Collectors.toSet());
+    /**
+     * 산정 기간 내 기간(결근처리기간 or 소정근로제외기간) 내 평일 집합을 구한다. - 겹치는 기간은 병합한 뒤 한 번만 순회한다.
+     *
+     * @param accrualPeriod 연차 산정 기간
+     * @param periods       기간(결근처리, 소정근로제외)
+     * @param calendar      소정근로일 달력
+     * @return 순수 소정근로일(평일) 집합
+     */
+    public static DaySet getWorkingDaysInPeriods(DatePeriod accrualPeriod,
+        List<DatePeriod> periods, WorkingDayCalendar calendar) {
+        return DayIntervals.of(periods, accrualPeriod).workingDays(calendar);
     }
 
     /**
      * 산정 기간 내 특정 일자(LocalDate 리스트) 중 평일 수를 계산한다. - 산정 기간(accrualPeriod)에 속하는 날짜만 반영 - 주말/법정공휴일 제외
      *
-     * @param accrualPeriod     연차 산정 기간
-     * @param companyHoliday    특정 일자 리스트 (예: 회사 지정 휴일)
-     * @param statutoryHolidays 법정 공휴일
+     * @param accrualPeriod  연차 산정 기간
+     * @param companyHoliday 특정 일자 리스트 (예: 회사 지정 휴일)
+     * @param calendar       소정근로일 달력
      * @return 순수 소정근로일(평일) 집합
      */
-    public static Set<LocalDate> getWorkingDaysInCompanyHolidays(DatePeriod accrualPeriod,
-        List<LocalDate> companyHoliday, Set<LocalDate> statutoryHolidays) {
+    public static DaySet getWorkingDaysInCompanyHolidays(DatePeriod accrualPeriod,
+        List<LocalDate> companyHoliday, WorkingDayCalendar calendar) {
 
         if (companyHoliday == null || companyHoliday.isEmpty()) {
-            return Set.of();
+            return DaySet.EMPTY;
         }
 
-        Set<LocalDate> holidays = (statutoryHolidays == null) ? Set.of() : statutoryHolidays;
-
-        return companyHoliday.stream()
-            .filter(
-                d -> !d.isBefore(accrualPeriod.startDate()) && !d.isAfter(accrualPeriod.endDate()))
-            .filter(AnnualLeaveHelper::isWeekday)
-            .filter(d -> !holidays.contains(d))
-            .collect(Collectors.toSet());
+        DaySet.Builder builder = DaySet.builder(accrualPeriod); // 산정 기간 밖의 날짜는 무시
+        for (LocalDate day : companyHoliday) {
+            if (calendar.isWorkingDay(day)) {
+                builder.add(day.toEpochDay());
+            }
+        }
+        return builder.build();
     }
 
 }
@@ -3,6 +3,7 @@ package com.lawding.leavecalc.util;
 import com.lawding.leavecalc.dto.request.AnnualLeaveRequest;
 import com.lawding.leavecalc.exception.AnnualLeaveException;
 import com.lawding.leavecalc.exception.ErrorCode;
+import com.lawding.leavecalc.resolver.ExplanationFormat;
 import java.util.Locale;
 import java.util.Map;
 
@@ -11,7 +12,8 @@ public class AnnualLeaveRequestValidator {
     private AnnualLeaveRequestValidator() {
     }
 
-    public record HeaderInfo(String platform, boolean testMode) {
+    public record HeaderInfo(String platform, boolean testMode,
+                             ExplanationFormat explanationFormat) {
 
     }
 
@@ -21,7 +23,9 @@ public class AnnualLeaveRequestValidator {
         }
         String platform = validatePlatform(headers);
         boolean testMode = validateTestMode(headers);
-        return new HeaderInfo(platform, testMode);
+        ExplanationFormat explanationFormat = ExplanationFormat.of(
+            headers.get("x-explanation-format"));
+        return new HeaderInfo(platform, testMode, explanationFormat);
     }
 
     /**
@@ -0,0 +1,121 @@
+package com.lawding.leavecalc.util;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.DaySet;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 여러 기간(결근처리기간, 소정근로제외기간 등)을 정렬·병합한 서로소 epoch day 구간 목록입니다.
+ * <p>
+ * 겹치거나 맞닿은 기간은 하나로 합치고 산정 기간으로 잘라내므로, 소정근로일 수 계산은 기간의 길이가 아니라 구간 수에 비례합니다.
+ */
+public final class DayIntervals {
+
+    public static final DayIntervals EMPTY = new DayIntervals(new long[0], new long[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+
+    private DayIntervals(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * @param periods 기간 목록 (null 가능, 종료일이 시작일보다 앞선 기간은 무시)
+     * @param clip    잘라낼 기준 기간 (보통 연차 산정 기간)
+     * @return clip 안으로 잘라낸 서로소 구간 목록
+     */
+    public static DayIntervals of(List<DatePeriod> periods, DatePeriod clip) {
+        if (periods == null || periods.isEmpty()) {
+            return EMPTY;
+        }
+        long clipStart = clip.startDate().toEpochDay();
+        long clipEnd = clip.endDate().toEpochDay();
+
+        long[][] clipped = new long[periods.size()][];
+        int count = 0;
+        for (DatePeriod period : periods) {
+            long start = Math.max(period.startDate().toEpochDay(), clipStart);
+            long end = Math.min(period.endDate().toEpochDay(), clipEnd);
+            if (start <= end) {
+                clipped[count++] = new long[]{start, end};
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(clipped, 0, count, (a, b) -> Long.compare(a[0], b[0]));
+
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            long start = clipped[i][0];
+            long end = clipped[i][1];
+            if (size > 0 && start <= ends[size - 1] + 1) { // 겹치거나 맞닿은 구간은 병합
+                ends[size - 1] = Math.max(ends[size - 1], end);
+            } else {
+                starts[size] = start;
+                ends[size] = end;
+                size++;
+            }
+        }
+        return new DayIntervals(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    }
+
+    /**
+     * @return 구간 수
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    public boolean contains(LocalDate date) {
+        return contains(date.toEpochDay());
+    }
+
+    public boolean contains(long epochDay) {
+        int index = Arrays.binarySearch(starts, epochDay);
+        if (index >= 0) {
+            return true;
+        }
+        int previous = -index - 2; // epochDay 보다 앞서 시작하는 마지막 구간
+        return previous >= 0 && epochDay <= ends[previous];
+    }
+
+    /**
+     * @return 모든 구간의 소정근로일 수 합
+     */
+    public int countWorkingDays(WorkingDayCalendar calendar) {
+        int count = 0;
+        for (int i = 0; i < starts.length; i++) {
+            count += calendar.countWorkingDays(starts[i], ends[i]);
+        }
+        return count;
+    }
+
+    /**
+     * @return 구간에 속한 소정근로일 집합
+     */
+    public DaySet workingDays(WorkingDayCalendar calendar) {
+        if (starts.length == 0) {
+            return DaySet.EMPTY;
+        }
+        DaySet.Builder builder = DaySet.builder(starts[0], ends[ends.length - 1]);
+        for (int i = 0; i < starts.length; i++) {
+            for (long day = starts[i]; day <= ends[i]; day++) {
+                if (calendar.isWorkingDay(day)) {
+                    builder.add(day);
+                }
+            }
+        }
+        return builder.build();
+    }
+}
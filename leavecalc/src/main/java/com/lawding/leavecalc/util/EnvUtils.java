@@ -0,0 +1,80 @@
+package com.lawding.leavecalc.util;
+
+import org.slf4j.Logger;
+
+public class EnvUtils {
+
+    private static final Logger logger = LogUtil.getLogger(EnvUtils.class);
+
+    private EnvUtils() {
+    }
+
+    /**
+     * 정수형 환경변수를 읽습니다. 값이 없거나 잘못된 경우 기본값을 사용합니다.
+     *
+     * @param name         환경변수 이름
+     * @param defaultValue 기본값
+     * @return 설정값
+     */
+    public static long getLong(String name, long defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("환경변수 형식이 올바르지 않아 기본값을 사용합니다: {}={}, default={}", name, value,
+                defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 실수형 환경변수를 읽습니다. 값이 없거나 잘못된 경우 기본값을 사용합니다.
+     *
+     * @param name         환경변수 이름
+     * @param defaultValue 기본값
+     * @return 설정값
+     */
+    public static double getDouble(String name, double defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("환경변수 형식이 올바르지 않아 기본값을 사용합니다: {}={}, default={}", name, value,
+                defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * true/false 환경변수를 읽습니다. 값이 없거나 true/false(대소문자 무시)가 아닌 경우 기본값을 사용합니다.
+     *
+     * @param name         환경변수 이름
+     * @param defaultValue 기본값
+     * @return 설정값
+     */
+    public static boolean getBoolean(String name, boolean defaultValue) {
+        return parseBoolean(name, System.getenv(name), defaultValue);
+    }
+
+    static boolean parseBoolean(String name, String value, boolean defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        String trimmed = value.trim();
+        if (trimmed.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (trimmed.equalsIgnoreCase("false")) {
+            return false;
+        }
+        logger.warn("환경변수 형식이 올바르지 않아 기본값을 사용합니다: {}={}, default={}", name, value,
+            defaultValue);
+        return defaultValue;
+    }
+}
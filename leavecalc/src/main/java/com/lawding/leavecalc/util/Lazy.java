@@ -0,0 +1,74 @@
+package com.lawding.leavecalc.util;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+
+/**
+ * 처음 필요할 때 한 번만 만들고 이후에는 재사용하는 값입니다.
+ * <p>
+ * 생성에 실패하면 값을 캐시하지 않고 예외를 그대로 던지므로, 다음 호출에서 다시 시도합니다. (클래스 초기화 실패처럼 컨테이너
+ * 전체가 망가지지 않음) 생성 소요 시간은 이름별로 로그에 남깁니다.
+ *
+ * @param <T> 값 타입
+ */
+public final class Lazy<T> {
+
+    private static final Logger logger = LogUtil.getLogger(Lazy.class);
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile T value;
+
+    private Lazy(String name, Supplier<T> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    /**
+     * @param name    로그에 남길 이름
+     * @param factory 값 생성 (실패 시 예외)
+     */
+    public static <T> Lazy<T> of(String name, Supplier<T> factory) {
+        return new Lazy<>(name, factory);
+    }
+
+    public T get() {
+        T current = value;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (value == null) {
+                long startTime = LogUtil.startTimer();
+                try {
+                    value = factory.get();
+                } catch (RuntimeException | LinkageError e) {
+                    logger.warn("초기화 실패[{}]: {}", name, e.getMessage());
+                    throw e;
+                }
+                LogUtil.logExecutionTime(logger, startTime, "초기화-" + name);
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isInitialized() {
+        return value != null;
+    }
+
+    /**
+     * 이미 만들어진 경우에만 실행합니다. (값을 만들기 위해 초기화하지 않음)
+     */
+    public void ifInitialized(Consumer<T> action) {
+        T current = value;
+        if (current != null) {
+            action.accept(current);
+        }
+    }
+}
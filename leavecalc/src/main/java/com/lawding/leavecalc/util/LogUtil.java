@@ -6,6 +6,9 @@ import org.slf4j.MDC;
 
 public class LogUtil {
 
+    static final String LOG_LEVEL_KEY = "logLevel";
+    static final String DEBUG_LEVEL = "DEBUG";
+
     /**
      * 요청 시작 시 로깅 설정 초기화
      * @param requestId 요청 ID
@@ -14,6 +17,18 @@ public class LogUtil {
         MDC.put("requestId",requestId);
     }
 
+    /**
+     * 요청 시작 시 로깅 설정 초기화
+     * @param requestId 요청 ID
+     * @param debug     요청의 DEBUG 로그 기록 여부 ({@link RequestLogPolicy})
+     */
+    public static void setupLogging(String requestId, boolean debug) {
+        setupLogging(requestId);
+        if (debug) {
+            MDC.put(LOG_LEVEL_KEY, DEBUG_LEVEL);
+        }
+    }
+
     /**
      * 요청 종료 시 로깅 리소스 정리
      */
@@ -32,10 +47,10 @@ public class LogUtil {
 
     /**
      * 성능 측정 시작
-     * @return 측정 시작 시간 (밀리초)
+     * @return 측정 시작 시각 (나노초, 경과 시간 계산에만 사용)
      */
     public static long startTimer() {
-        return System.currentTimeMillis();
+        return System.nanoTime();
     }
 
     /**
@@ -45,8 +60,9 @@ public class LogUtil {
      * @param operation 측정 중인 작업명
      */
     public static void logExecutionTime(Logger logger, long startTime, String operation) {
-        long endTime = System.currentTimeMillis();
-        logger.info("실행시간[{}]: {}ms", operation, (endTime - startTime));
+        long elapsedNanos = System.nanoTime() - startTime;
+        logger.info("실행시간[{}]: {}ms", operation,
+            String.format("%.3f", elapsedNanos / 1_000_000.0));
     }
 
 }
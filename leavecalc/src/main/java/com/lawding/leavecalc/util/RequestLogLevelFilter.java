@@ -0,0 +1,30 @@
+package com.lawding.leavecalc.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * MDC 의 logLevel 이 DEBUG 인 요청({@link LogUtil#setupLogging(String, boolean)})에 한해 애플리케이션
+ * 로거의 DEBUG 로그를 허용하는 logback 필터입니다. 그 외에는 로거에 설정된 레벨을 따릅니다.
+ * <p>
+ * logger.isDebugEnabled() 와 파라미터 로그({})의 레벨 확인도 이 필터를 거치므로, DEBUG 가 아닌 요청에서는 객체의
+ * toString 이 호출되지 않습니다.
+ */
+public class RequestLogLevelFilter extends TurboFilter {
+
+    private static final String APP_LOGGER_PREFIX = "com.lawding.leavecalc";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+        Object[] params, Throwable t) {
+        if (level != Level.DEBUG || !logger.getName().startsWith(APP_LOGGER_PREFIX)) {
+            return FilterReply.NEUTRAL;
+        }
+        return LogUtil.DEBUG_LEVEL.equals(MDC.get(LogUtil.LOG_LEVEL_KEY))
+            ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
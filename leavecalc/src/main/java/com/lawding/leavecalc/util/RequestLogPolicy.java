@@ -0,0 +1,68 @@
+package com.lawding.leavecalc.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 단위 로그 레벨 정책입니다.
+ * <p>
+ * 기본은 INFO 이며, 다음 경우에만 해당 요청의 애플리케이션 로그를 DEBUG 로 남깁니다.
+ * ({@link RequestLogLevelFilter})
+ * <ul>
+ *     <li>x-debug-log 헤더 값이 DEBUG_LOG_TOKENS(쉼표 구분)에 포함된 경우 (목록이 비어 있으면 헤더 무시)</li>
+ *     <li>DEBUG_LOG_SAMPLE_RATE(0~1, 기본 0) 비율로 표본 추출된 경우</li>
+ * </ul>
+ */
+public final class RequestLogPolicy {
+
+    public static final String DEBUG_HEADER = "x-debug-log";
+
+    private static final Set<String> debugTokens = parseTokens(System.getenv("DEBUG_LOG_TOKENS"));
+    private static final double sampleRate = EnvUtils.getDouble("DEBUG_LOG_SAMPLE_RATE", 0);
+
+    private RequestLogPolicy() {
+    }
+
+    /**
+     * @param headers 요청 헤더 (null 허용)
+     * @return 요청을 DEBUG 로 기록할지 여부
+     */
+    public static boolean debugEnabled(Map<String, String> headers) {
+        String headerValue = headers == null ? null : headers.get(DEBUG_HEADER);
+        return debugEnabled(headerValue, debugTokens, sampleRate,
+            ThreadLocalRandom.current().nextDouble());
+    }
+
+    static boolean debugEnabled(String headerValue, Set<String> tokens, double sampleRate,
+        double random) {
+        if (headerValue != null && isAllowed(headerValue.trim(), tokens)) {
+            return true;
+        }
+        return random < sampleRate;
+    }
+
+    private static boolean isAllowed(String value, Set<String> tokens) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        boolean allowed = false;
+        for (String token : tokens) {
+            // 응답 시간으로 토큰을 추측하지 못하도록 고정 시간 비교
+            allowed |= MessageDigest.isEqual(bytes, token.getBytes(StandardCharsets.UTF_8));
+        }
+        return allowed;
+    }
+
+    static Set<String> parseTokens(String value) {
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(token -> !token.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,175 @@
+package com.lawding.leavecalc.util;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.DaySet;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 소정근로일(주말·법정공휴일을 제외한 평일) 수를 누적합으로 계산하는 달력입니다.
+ * <p>
+ * 지원 범위(1950-01-01 ~ 2100-12-31)의 평일 누적 개수를 epoch day 기준 배열로 한 번만 계산해 두고, 기간의 평일 수는 배열
+ * 두 번의 조회로 구합니다. 공휴일은 조회 기간마다 공급원이 다르고 TTL 로 갱신되므로 정렬된 epoch day 배열로 보관해 이진
+ * 탐색으로 차감합니다.
+ */
+public final class WorkingDayCalendar {
+
+    public static final LocalDate MIN_DATE = LocalDate.of(1950, 1, 1);
+    public static final LocalDate MAX_DATE = LocalDate.of(2100, 12, 31);
+
+    /**
+     * 공휴일 없이 주말만 제외하는 달력
+     */
+    public static final WorkingDayCalendar WEEKDAYS_ONLY = new WorkingDayCalendar(new int[0]);
+
+    private static final int MIN_EPOCH_DAY = (int) MIN_DATE.toEpochDay();
+    private static final int MAX_EPOCH_DAY = (int) MAX_DATE.toEpochDay();
+
+    /**
+     * WEEKDAY_PREFIX[i] = [MIN_DATE, MIN_DATE + i일) 구간의 평일 수
+     */
+    private static final int[] WEEKDAY_PREFIX = buildWeekdayPrefix();
+
+    private final int[] holidayEpochDays;
+
+    private WorkingDayCalendar(int[] holidayEpochDays) {
+        this.holidayEpochDays = holidayEpochDays;
+    }
+
+    /**
+     * @param statutoryHolidays 법정공휴일 (null 가능, 주말은 무시)
+     */
+    public static WorkingDayCalendar of(Collection<LocalDate> statutoryHolidays) {
+        if (statutoryHolidays == null || statutoryHolidays.isEmpty()) {
+            return WEEKDAYS_ONLY;
+        }
+        int[] days = statutoryHolidays.stream()
+            .filter(AnnualLeaveHelper::isWeekday)
+            .mapToInt(date -> (int) date.toEpochDay())
+            .distinct()
+            .sorted()
+            .toArray();
+        return new WorkingDayCalendar(days);
+    }
+
+    /**
+     * @param statutoryHolidays 법정공휴일 (주말은 무시)
+     */
+    public static WorkingDayCalendar of(DaySet statutoryHolidays) {
+        if (statutoryHolidays.isEmpty()) {
+            return WEEKDAYS_ONLY;
+        }
+        int[] days = statutoryHolidays.epochDays()
+            .filter(WorkingDayCalendar::isWeekday)
+            .mapToInt(day -> (int) day)
+            .toArray();
+        return new WorkingDayCalendar(days);
+    }
+
+    /**
+     * epoch day 0(1970-01-01)은 목요일이므로 (epochDay + 3) mod 7 은 월요일 0 ~ 일요일 6
+     */
+    private static boolean isWeekday(long epochDay) {
+        return Math.floorMod(epochDay + 3, 7) < 5;
+    }
+
+    private static int[] buildWeekdayPrefix() {
+        int size = MAX_EPOCH_DAY - MIN_EPOCH_DAY + 1;
+        int[] prefix = new int[size + 1];
+        DayOfWeek day = MIN_DATE.getDayOfWeek();
+        for (int i = 0; i < size; i++) {
+            boolean weekday = day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY;
+            prefix[i + 1] = prefix[i] + (weekday ? 1 : 0);
+            day = day.plus(1);
+        }
+        return prefix;
+    }
+
+    /**
+     * @return 해당 날짜가 소정근로일인지
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        return isWorkingDay(date.toEpochDay());
+    }
+
+    /**
+     * @return 해당 epoch day 가 소정근로일인지
+     */
+    public boolean isWorkingDay(long epochDay) {
+        return isWeekday(epochDay)
+            && Arrays.binarySearch(holidayEpochDays, (int) epochDay) < 0;
+    }
+
+    /**
+     * @param period [startDate, endDate] 포함
+     * @return 기간 내 소정근로일 수
+     */
+    public int countWorkingDays(DatePeriod period) {
+        return countWorkingDays(period.startDate(), period.endDate());
+    }
+
+    /**
+     * @param start 시작일 (포함)
+     * @param end   종료일 (포함)
+     * @return 기간 내 소정근로일 수 (종료일이 시작일보다 앞서면 0)
+     */
+    public int countWorkingDays(LocalDate start, LocalDate end) {
+        return countWorkingDays(start.toEpochDay(), end.toEpochDay());
+    }
+
+    /**
+     * @param from 시작 epoch day (포함)
+     * @param to   종료 epoch day (포함)
+     * @return 기간 내 소정근로일 수 (종료일이 시작일보다 앞서면 0)
+     */
+    public int countWorkingDays(long from, long to) {
+        if (to < from) {
+            return 0;
+        }
+        return countWeekdays(from, to) - countHolidays(from, to);
+    }
+
+    private static int countWeekdays(long from, long to) {
+        if (from >= MIN_EPOCH_DAY && to <= MAX_EPOCH_DAY) {
+            return WEEKDAY_PREFIX[(int) (to - MIN_EPOCH_DAY + 1)]
+                - WEEKDAY_PREFIX[(int) (from - MIN_EPOCH_DAY)];
+        }
+        // 지원 범위를 벗어난 기간은 주 단위로 계산
+        long days = to - from + 1;
+        long count = days / 7 * 5;
+        DayOfWeek day = LocalDate.ofEpochDay(from).getDayOfWeek();
+        for (long i = 0; i < days % 7; i++) {
+            if (day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY) {
+                count++;
+            }
+            day = day.plus(1);
+        }
+        return (int) count;
+    }
+
+    private int countHolidays(long from, long to) {
+        if (holidayEpochDays.length == 0) {
+            return 0;
+        }
+        return lowerBound(to + 1) - lowerBound(from);
+    }
+
+    /**
+     * @return epochDay 이상인 첫 공휴일의 인덱스
+     */
+    private int lowerBound(long epochDay) {
+        int low = 0;
+        int high = holidayEpochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (holidayEpochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
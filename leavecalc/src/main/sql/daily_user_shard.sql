@@ -0,0 +1,49 @@
+-- 플랫폼 당 요청 수 집계를 일자별 N 개의 샤드 행으로 분산합니다.
+-- 각 Lambda 컨테이너는 기동 시 하나의 샤드를 골라 해당 행에만 upsert 하므로
+-- 동시 요청이 같은 행의 잠금을 두고 대기하지 않습니다. 조회는 샤드를 합산합니다.
+--
+-- 배포 순서
+--   1. [1] 테이블·뷰 생성을 실행합니다. (기존 코드에는 영향 없음)
+--   2. 샤드에 기록하는 코드를 배포하고, 이전 버전 컨테이너가 모두 내려갈 때까지 기다립니다.
+--      (이전 버전이 남아 있는 동안은 daily_user 에 계속 기록되므로 이관하면 안 됩니다)
+--   3. [2] 기존 집계 이관을 한 번 실행합니다. 이 시점 이후 daily_user 에는 더 이상 기록되지 않습니다.
+--
+-- 이관은 배포 이후 새 코드가 샤드 0 에 기록한 값에 기존 집계를 더하며(덮어쓰지 않음),
+-- 완료 기록(schema_migration)을 같은 트랜잭션에 남기므로 다시 실행해도 중복으로 더해지지 않습니다.
+
+-- [1] 테이블·뷰 생성
+CREATE TABLE IF NOT EXISTS daily_user_shard (
+    record_date DATE              NOT NULL,
+    shard       SMALLINT UNSIGNED NOT NULL,
+    web         BIGINT            NOT NULL DEFAULT 0,
+    ios         BIGINT            NOT NULL DEFAULT 0,
+    PRIMARY KEY (record_date, shard)
+);
+
+CREATE TABLE IF NOT EXISTS schema_migration (
+    name       VARCHAR(64) NOT NULL,
+    applied_at DATETIME    NOT NULL,
+    PRIMARY KEY (name)
+);
+
+-- 기존 daily_user 형태로 조회하던 곳을 위한 합산 뷰
+CREATE OR REPLACE VIEW daily_user_total AS
+SELECT record_date, SUM(web) AS web, SUM(ios) AS ios
+FROM daily_user_shard
+GROUP BY record_date;
+
+-- [2] 기존 집계 이관 (샤드 0, 배포 순서 3 단계에서 한 번 실행)
+START TRANSACTION;
+
+-- 완료 기록을 먼저 잠가 동시에 실행되더라도 한 번만 이관
+INSERT IGNORE INTO schema_migration (name, applied_at)
+VALUES ('daily_user_shard_copy', NOW());
+SET @copy_daily_user = ROW_COUNT(); -- 처음 실행이면 1, 이미 이관했으면 0
+
+INSERT INTO daily_user_shard (record_date, shard, web, ios)
+SELECT record_date, 0, COALESCE(web, 0), COALESCE(ios, 0)
+FROM daily_user
+WHERE @copy_daily_user = 1
+ON DUPLICATE KEY UPDATE web = web + VALUES(web), ios = ios + VALUES(ios);
+
+COMMIT;
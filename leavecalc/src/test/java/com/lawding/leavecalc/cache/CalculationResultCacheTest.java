@@ -0,0 +1,146 @@
+package com.lawding.leavecalc.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.domain.CalculationType;
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.dto.AnnualLeaveResult;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.mapper.AnnualLeaveMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("계산 결과 캐시 단위 테스트")
+class CalculationResultCacheTest {
+
+    private final AtomicLong holidayVersion = new AtomicLong();
+    private final HolidayProvider holidayProvider = new HolidayProvider() {
+        @Override
+        public Set<LocalDate> findWeekdayHolidays(DatePeriod period) {
+            return Set.of();
+        }
+
+        @Override
+        public long version() {
+            return holidayVersion.get();
+        }
+    };
+
+    private static AnnualLeaveContext context(List<DatePeriod> absentPeriods,
+        List<LocalDate> companyHolidays) {
+        return AnnualLeaveContext.builder()
+            .calculationType(CalculationType.HIRE_DATE)
+            .hireDate(LocalDate.of(2023, 3, 2))
+            .referenceDate(LocalDate.of(2025, 1, 10))
+            .nonWorkingPeriods(Map.of(2, absentPeriods))
+            .companyHolidays(companyHolidays)
+            .build();
+    }
+
+    private static AnnualLeaveResult calculate(AnnualLeaveContext context, AtomicInteger count) {
+        count.incrementAndGet();
+        return AnnualLeaveResult.builder()
+            .calculationType(context.getCalculationType().name())
+            .nonWorkingPeriod(AnnualLeaveMapper.toDtoList(context.getNonWorkingPeriods()))
+            .companyHolidays(AnnualLeaveMapper.toStringList(context.getCompanyHolidays()))
+            .explanations(List.of("설명"))
+            .build();
+    }
+
+    @Test
+    @DisplayName("기간 순서와 회사휴일 중복만 다른 요청은 같은 결과를 재사용하고, 요청 값은 현재 요청으로 채운다")
+    void hitForNormalizedEqualContext() {
+        // given
+        CalculationResultCache cache = new CalculationResultCache(10, Duration.ofMinutes(10));
+        DatePeriod first = new DatePeriod(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 5));
+        DatePeriod second = new DatePeriod(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 3));
+        AnnualLeaveContext original = context(List.of(first, second),
+            List.of(LocalDate.of(2024, 5, 1)));
+        AnnualLeaveContext reordered = context(List.of(second, first),
+            List.of(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 1)));
+        AtomicInteger calculations = new AtomicInteger();
+
+        // when
+        AnnualLeaveResult miss = cache.getOrCompute(original, holidayProvider,
+            () -> calculate(original, calculations));
+        AnnualLeaveResult hit = cache.getOrCompute(reordered, holidayProvider,
+            () -> calculate(reordered, calculations));
+
+        // then
+        assertEquals(1, calculations.get());
+        assertSame(miss.explanations(), hit.explanations());
+        assertEquals("2024-07-01", hit.nonWorkingPeriod().get(0).getStartDate());
+        assertEquals(List.of("2024-05-01", "2024-05-01"), hit.companyHolidays());
+    }
+
+    @Test
+    @DisplayName("공휴일 버전이 바뀌거나 TTL 이 지나면 다시 계산하고, 최대 건수를 넘으면 오래 안 쓴 결과부터 버린다")
+    void invalidateByVersionTtlAndSize() {
+        // given
+        MutableClock clock = new MutableClock();
+        CalculationResultCache cache = new CalculationResultCache(2, Duration.ofMinutes(10),
+            clock);
+        AnnualLeaveContext a = context(List.of(), List.of(LocalDate.of(2024, 5, 1)));
+        AnnualLeaveContext b = context(List.of(), List.of(LocalDate.of(2024, 5, 2)));
+        AnnualLeaveContext c = context(List.of(), List.of(LocalDate.of(2024, 5, 3)));
+        AtomicInteger calculations = new AtomicInteger();
+
+        // when & then
+        cache.getOrCompute(a, holidayProvider, () -> calculate(a, calculations));
+        cache.getOrCompute(a, holidayProvider, () -> calculate(a, calculations));
+        assertEquals(1, calculations.get());
+
+        holidayVersion.incrementAndGet(); // 공휴일 변경
+        cache.getOrCompute(a, holidayProvider, () -> calculate(a, calculations));
+        assertEquals(2, calculations.get());
+
+        clock.advance(Duration.ofMinutes(10)); // TTL 경과
+        cache.getOrCompute(a, holidayProvider, () -> calculate(a, calculations));
+        assertEquals(3, calculations.get());
+
+        cache.getOrCompute(b, holidayProvider, () -> calculate(b, calculations));
+        cache.getOrCompute(a, holidayProvider, () -> calculate(a, calculations)); // a 최근 사용
+        cache.getOrCompute(c, holidayProvider, () -> calculate(c, calculations)); // b 제거
+        assertEquals(5, calculations.get());
+        cache.getOrCompute(a, holidayProvider, () -> calculate(a, calculations));
+        assertEquals(5, calculations.get());
+        cache.getOrCompute(b, holidayProvider, () -> calculate(b, calculations));
+        assertEquals(6, calculations.get());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
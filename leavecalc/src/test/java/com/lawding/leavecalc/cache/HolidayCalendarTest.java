@@ -0,0 +1,142 @@
+package com.lawding.leavecalc.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("공휴일 캐시 단위 테스트")
+class HolidayCalendarTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final FakeLoader loader = new FakeLoader(
+        LocalDate.of(2023, 5, 5), LocalDate.of(2024, 5, 6), LocalDate.of(2024, 12, 25),
+        LocalDate.of(2025, 1, 1), LocalDate.of(2025, 10, 6));
+    private final HolidayCalendar calendar = new HolidayCalendar(loader, Duration.ofHours(1),
+        clock);
+
+    @Test
+    @DisplayName("여러 해에 걸친 조회는 캐시에 없는 연도만 한 번의 조회로 적재한다")
+    void loadOnlyMissingYears() {
+        // given
+        calendar.find(period("2023-01-01", "2023-12-30"));
+
+        // when
+        Set<LocalDate> holidays = calendar.find(period("2023-03-01", "2025-06-30"));
+        calendar.find(period("2024-02-01", "2025-03-01"));
+
+        // then
+        assertEquals(List.of("2023-01-01~2023-12-31", "2024-01-01~2025-12-31"), loader.calls);
+        assertEquals(Set.of(LocalDate.of(2023, 5, 5), LocalDate.of(2024, 5, 6),
+            LocalDate.of(2024, 12, 25), LocalDate.of(2025, 1, 1)), holidays);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 연도만 다시 적재한다")
+    void reloadAfterTtl() {
+        // given
+        DatePeriod period = period("2024-03-01", "2024-09-30");
+        calendar.find(period);
+
+        // when & then
+        clock.advance(Duration.ofMinutes(59));
+        calendar.find(period);
+        assertEquals(1, loader.calls.size());
+
+        clock.advance(Duration.ofMinutes(1));
+        calendar.find(period);
+        assertEquals(List.of("2024-01-01~2024-12-31", "2024-01-01~2024-12-31"), loader.calls);
+    }
+
+    @Test
+    @DisplayName("조회 범위는 시작일부터 종료일 다음날까지이다")
+    void includeDayAfterEndDate() {
+        // when & then
+        assertEquals(Set.of(LocalDate.of(2024, 5, 6)),
+            calendar.find(period("2024-05-06", "2024-05-05")));
+        assertEquals(Set.of(LocalDate.of(2024, 5, 6)),
+            calendar.find(period("2024-05-01", "2024-05-05")));
+        assertEquals(Set.of(), calendar.find(period("2024-05-07", "2024-12-23")));
+        assertEquals(Set.of(LocalDate.of(2024, 12, 25), LocalDate.of(2025, 1, 1)),
+            calendar.find(period("2024-12-25", "2024-12-31")));
+        assertEquals(Set.of(), calendar.find(period("2024-06-01", "2024-05-30")));
+    }
+
+    @Test
+    @DisplayName("다시 적재한 공휴일이 달라진 경우에만 버전이 증가한다")
+    void bumpVersionWhenDataChanges() {
+        // given
+        DatePeriod period = period("2024-01-01", "2024-12-30");
+        calendar.find(period);
+        long initial = calendar.version();
+
+        // when & then
+        clock.advance(Duration.ofHours(1));
+        calendar.find(period);
+        assertEquals(initial, calendar.version());
+
+        loader.holidays.add(LocalDate.of(2024, 10, 1)); // 임시공휴일 지정
+        clock.advance(Duration.ofHours(1));
+        Set<LocalDate> reloaded = calendar.find(period);
+        assertEquals(initial + 1, calendar.version());
+        assertEquals(3, reloaded.size());
+
+        calendar.invalidateAll();
+        assertEquals(initial + 2, calendar.version());
+    }
+
+    @Test
+    @DisplayName("적재 중 캐시가 비워져도 확인·적재한 연도로 조회를 마친다")
+    void findWhileInvalidated() {
+        // given
+        AtomicReference<HolidayCalendar> target = new AtomicReference<>();
+        HolidayCalendar.HolidayLoader invalidating = (startDate, endDate) -> {
+            Set<LocalDate> loaded = loader.load(startDate, endDate);
+            target.get().invalidateAll(); // 다른 스레드가 적재 도중 캐시를 비운 경우
+            return loaded;
+        };
+        target.set(new HolidayCalendar(invalidating, Duration.ofHours(1), clock));
+        target.get().find(period("2023-01-01", "2023-12-30"));
+
+        // when
+        Set<LocalDate> holidays = target.get().find(period("2023-03-01", "2024-12-30"));
+
+        // then
+        assertEquals(List.of("2023-01-01~2023-12-31", "2024-01-01~2024-12-31"), loader.calls);
+        assertEquals(Set.of(LocalDate.of(2023, 5, 5), LocalDate.of(2024, 5, 6),
+            LocalDate.of(2024, 12, 25)), holidays);
+    }
+
+    private static DatePeriod period(String startDate, String endDate) {
+        return new DatePeriod(LocalDate.parse(startDate), LocalDate.parse(endDate));
+    }
+
+    private static final class FakeLoader implements HolidayCalendar.HolidayLoader {
+
+        private final Set<LocalDate> holidays;
+        private final List<String> calls = new ArrayList<>();
+
+        private FakeLoader(LocalDate... holidays) {
+            this.holidays = new HashSet<>(List.of(holidays));
+        }
+
+        @Override
+        public Set<LocalDate> load(LocalDate startDate, LocalDate endDate) {
+            calls.add(startDate + "~" + endDate);
+            return holidays.stream()
+                .filter(day -> !day.isBefore(startDate) && !day.isAfter(endDate))
+                .collect(Collectors.toSet());
+        }
+    }
+}
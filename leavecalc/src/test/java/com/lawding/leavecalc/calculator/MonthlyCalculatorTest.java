@@ -0,0 +1,135 @@
+package com.lawding.leavecalc.calculator;
+
+import static com.lawding.leavecalc.constant.AnnualLeaveConstants.MAX_MONTHLY_LEAVE;
+import static com.lawding.leavecalc.util.AnnualLeaveHelper.formatDouble;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.DaySet;
+import com.lawding.leavecalc.domain.MonthlyLeaveRecord;
+import com.lawding.leavecalc.domain.flow.context.MonthlyContext;
+import com.lawding.leavecalc.domain.flow.detail.MonthlyDetail;
+import com.lawding.leavecalc.util.AnnualLeaveHelper;
+import com.lawding.leavecalc.util.WorkingDayCalendar;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("월차 계산기 단위 테스트")
+class MonthlyCalculatorTest {
+
+    private final MonthlyCalculator calculator = new MonthlyCalculator();
+
+    /**
+     * 누적 색인 도입 전, 월마다 소정근로일 집합을 만들어 세던 계산 방식
+     */
+    private static List<double[]> calculateByDayEnumeration(MonthlyContext context) {
+        DatePeriod period = context.getAccrualPeriod();
+        Set<LocalDate> absentDays = toDates(context.getAbsentDays());
+        Set<LocalDate> excludedDays = toDates(context.getExcludedDays());
+        excludedDays.addAll(toDates(context.getCompanyHolidays()));
+        Set<LocalDate> statutoryHolidays = toDates(context.getStatutoryHolidays());
+
+        List<double[]> records = new ArrayList<>();
+        double total = 0.0;
+        LocalDate currentStart = period.startDate();
+        while (total < MAX_MONTHLY_LEAVE) {
+            LocalDate currentEnd = currentStart.plusMonths(1).minusDays(1);
+            if (currentEnd.isAfter(period.endDate())) {
+                break;
+            }
+            Set<LocalDate> prescribedSet = currentStart.datesUntil(currentEnd.plusDays(1))
+                .filter(AnnualLeaveHelper::isWeekday)
+                .filter(day -> !statutoryHolidays.contains(day))
+                .collect(Collectors.toSet());
+            int denominator = prescribedSet.size();
+            double granted = 0.0;
+            if (denominator > 0 && absentDays.stream().noneMatch(prescribedSet::contains)) {
+                int excluded = (int) excludedDays.stream().filter(prescribedSet::contains).count();
+                granted = (double) (denominator - excluded) / denominator;
+            }
+            records.add(new double[]{currentStart.toEpochDay(), currentEnd.toEpochDay(),
+                formatDouble(granted)});
+            total = Math.min(MAX_MONTHLY_LEAVE, total + granted);
+            if (total >= MAX_MONTHLY_LEAVE) {
+                break;
+            }
+            currentStart = currentEnd.plusDays(1);
+        }
+        records.add(new double[]{formatDouble(total)});
+        return records;
+    }
+
+    private static Set<LocalDate> toDates(DaySet days) {
+        return days.epochDays().mapToObj(LocalDate::ofEpochDay)
+            .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static List<DatePeriod> randomPeriods(Random random, DatePeriod accrualPeriod) {
+        List<DatePeriod> periods = new ArrayList<>();
+        int count = random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = accrualPeriod.startDate().minusDays(20).plusDays(random.nextInt(420));
+            int length = random.nextInt(random.nextBoolean() ? 5 : 60);
+            periods.add(new DatePeriod(start, start.plusDays(length)));
+        }
+        return periods;
+    }
+
+    @Test
+    @DisplayName("누적 색인 계산 결과는 날짜를 하나씩 세던 계산 결과와 같다")
+    void sameResultAsDayEnumeration() {
+        Random random = new Random(2024);
+        for (int i = 0; i < 1000; i++) {
+            // given
+            LocalDate start = LocalDate.of(2017, 1, 1).plusDays(random.nextInt(3000));
+            DatePeriod accrualPeriod = new DatePeriod(start,
+                start.plusDays(random.nextBoolean() ? 364 : random.nextInt(365)));
+            Set<LocalDate> holidays = new HashSet<>();
+            for (int h = random.nextInt(20); h > 0; h--) {
+                holidays.add(start.plusDays(random.nextInt(380)));
+            }
+            DaySet statutoryHolidays = DaySet.of(holidays);
+            WorkingDayCalendar calendar = WorkingDayCalendar.of(statutoryHolidays);
+            List<LocalDate> companyHoliday = new ArrayList<>();
+            for (int c = random.nextInt(6); c > 0; c--) {
+                companyHoliday.add(start.plusDays(random.nextInt(365)));
+            }
+
+            MonthlyContext context = MonthlyContext.builder()
+                .accrualPeriod(accrualPeriod)
+                .availablePeriod(accrualPeriod)
+                .absentDays(AnnualLeaveHelper.getWorkingDaysInPeriods(accrualPeriod,
+                    random.nextInt(3) == 0 ? randomPeriods(random, accrualPeriod) : List.of(),
+                    calendar))
+                .excludedDays(AnnualLeaveHelper.getWorkingDaysInPeriods(accrualPeriod,
+                    randomPeriods(random, accrualPeriod), calendar))
+                .companyHolidays(AnnualLeaveHelper.getWorkingDaysInCompanyHolidays(
+                    accrualPeriod, companyHoliday, calendar))
+                .statutoryHolidays(statutoryHolidays)
+                .build();
+
+            // when
+            MonthlyDetail detail = (MonthlyDetail) calculator.calculate(context);
+
+            // then
+            List<double[]> expected = calculateByDayEnumeration(context);
+            List<MonthlyLeaveRecord> records = detail.getRecords();
+            assertEquals(expected.size() - 1, records.size(), context.toString());
+            for (int r = 0; r < records.size(); r++) {
+                MonthlyLeaveRecord record = records.get(r);
+                double[] month = expected.get(r);
+                assertEquals((long) month[0], record.getPeriod().startDate().toEpochDay());
+                assertEquals((long) month[1], record.getPeriod().endDate().toEpochDay());
+                assertEquals(month[2], record.getMonthlyLeave(), context.toString());
+            }
+            assertEquals(expected.get(expected.size() - 1)[0], detail.getTotalLeaveDays());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.lawding.leavecalc.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.lawding.leavecalc.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RDS IAM 인증 토큰 단위 테스트")
+class IamAuthTokenProviderTest {
+
+    @Test
+    @DisplayName("토큰은 유효기간(15분)에서 여유시간(1분)을 뺀 14분 동안 재사용하고, 버리면 새로 서명한다")
+    void refreshBeforeExpiry() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-01T00:00:00Z"));
+        CountingProvider provider = new CountingProvider(clock);
+
+        // when & then
+        assertEquals("token-1", provider.getToken());
+        clock.advance(Duration.ofMinutes(14).minusMillis(1));
+        assertEquals("token-1", provider.getToken());
+
+        clock.advance(Duration.ofMillis(1));
+        assertEquals("token-2", provider.getToken());
+
+        provider.invalidate();
+        assertEquals("token-3", provider.getToken());
+        assertEquals("token-3", provider.getToken());
+    }
+
+    private static final class CountingProvider extends IamAuthTokenProvider {
+
+        private int generated;
+
+        private CountingProvider(MutableClock clock) {
+            super("db.example.com", 3306, "leavecalc", "ap-northeast-2", clock);
+        }
+
+        @Override
+        String generate() {
+            return "token-" + ++generated;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.lawding.leavecalc.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.lawding.leavecalc.db.RdsConnectionPool.PoolStats;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DB 커넥션 풀 단위 테스트")
+class RdsConnectionPoolTest {
+
+    private final List<FakeConnection> created = new ArrayList<>();
+
+    private RdsConnectionPool pool(int maxIdle) {
+        return new RdsConnectionPool(() -> {
+            FakeConnection connection = new FakeConnection();
+            created.add(connection);
+            return connection.proxy();
+        }, maxIdle);
+    }
+
+    @Test
+    @DisplayName("close() 한 커넥션은 닫지 않고 풀에 반납해 다음 요청에서 재사용한다")
+    void reuseReturnedConnection() throws SQLException {
+        // given
+        RdsConnectionPool pool = pool(2);
+
+        // when
+        Connection first = pool.borrow();
+        first.close();
+        first.close();
+        Connection second = pool.borrow();
+
+        // then
+        assertEquals(1, created.size());
+        assertFalse(created.get(0).closed);
+        assertTrue(first.isClosed());
+        assertThrows(SQLException.class, first::getAutoCommit);
+        assertFalse(second.isClosed());
+        assertEquals(new PoolStats(1, 1, 0), pool.stats());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 유휴 커넥션은 닫고 새로 연결한다")
+    void reconnectInvalidConnection() throws SQLException {
+        // given
+        RdsConnectionPool pool = pool(2);
+        pool.borrow().close();
+        created.get(0).valid = false; // 동결 중 서버가 연결을 끊은 경우
+
+        // when
+        pool.borrow();
+
+        // then
+        assertEquals(2, created.size());
+        assertTrue(created.get(0).closed);
+        assertEquals(new PoolStats(0, 1, 1), pool.stats());
+    }
+
+    @Test
+    @DisplayName("반납 시 진행 중인 트랜잭션은 롤백하고, 유휴 커넥션이 maxIdle 을 넘으면 닫는다")
+    void rollbackAndLimitIdle() throws SQLException {
+        // given
+        RdsConnectionPool pool = pool(2);
+        Connection a = pool.borrow();
+        Connection b = pool.borrow();
+        Connection c = pool.borrow();
+        a.setAutoCommit(false);
+
+        // when
+        a.close();
+        b.close();
+        c.close();
+
+        // then
+        assertEquals(1, created.get(0).rollbacks);
+        assertTrue(created.get(0).autoCommit);
+        assertFalse(created.get(0).closed);
+        assertFalse(created.get(1).closed);
+        assertTrue(created.get(2).closed);
+
+        pool.evictAll();
+        assertTrue(created.get(0).closed);
+        assertTrue(created.get(1).closed);
+    }
+
+    /**
+     * 검증·트랜잭션·종료 상태만 흉내 내는 물리 커넥션
+     */
+    private static final class FakeConnection {
+
+        private boolean valid = true;
+        private boolean closed;
+        private boolean autoCommit = true;
+        private int rollbacks;
+
+        private Connection proxy() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "isValid" -> valid && !closed;
+                    case "isClosed" -> closed;
+                    case "close" -> {
+                        closed = true;
+                        yield null;
+                    }
+                    case "getAutoCommit" -> autoCommit;
+                    case "setAutoCommit" -> {
+                        autoCommit = (Boolean) args[0];
+                        yield null;
+                    }
+                    case "rollback" -> {
+                        rollbacks++;
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.lawding.leavecalc.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("비트셋 날짜 집합 단위 테스트")
+class DaySetTest {
+
+    private static Set<LocalDate> randomDates(Random random, LocalDate from, int span) {
+        Set<LocalDate> dates = new HashSet<>();
+        int count = random.nextInt(span / 2 + 1);
+        for (int i = 0; i < count; i++) {
+            dates.add(from.plusDays(random.nextInt(span)));
+        }
+        return dates;
+    }
+
+    @Test
+    @DisplayName("합집합·교집합·기간 개수는 HashSet 연산 결과와 같다")
+    void operationsMatchHashSet() {
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            // given
+            LocalDate leftFrom = LocalDate.of(1969, 12, 1).plusDays(random.nextInt(40));
+            Set<LocalDate> left = randomDates(random, leftFrom, 300);
+            Set<LocalDate> right = randomDates(random, LocalDate.of(1970, 3, 1), 200);
+            DaySet leftSet = DaySet.of(left);
+            DaySet rightSet = DaySet.of(right);
+
+            Set<LocalDate> union = new HashSet<>(left);
+            union.addAll(right);
+            Set<LocalDate> intersection = new HashSet<>(left);
+            intersection.retainAll(right);
+
+            // when & then
+            assertEquals(left.size(), leftSet.size());
+            assertEquals(DaySet.of(union), leftSet.union(rightSet));
+            assertEquals(union.size(), leftSet.union(rightSet).size());
+            assertEquals(intersection.size(), leftSet.intersect(rightSet).size());
+
+            LocalDate start = LocalDate.of(1969, 12, 1).plusDays(random.nextInt(300));
+            LocalDate end = start.plusDays(random.nextInt(200));
+            long expected = left.stream()
+                .filter(d -> !d.isBefore(start) && !d.isAfter(end))
+                .count();
+            assertEquals(expected, leftSet.countBetween(start, end));
+        }
+    }
+
+    @Test
+    @DisplayName("빌더는 범위 밖의 날짜를 무시한다")
+    void builderIgnoresOutOfRange() {
+        // given
+        DatePeriod period = new DatePeriod(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+
+        // when
+        DaySet set = DaySet.builder(period)
+            .add(LocalDate.of(2023, 12, 31).toEpochDay())
+            .add(LocalDate.of(2024, 1, 15).toEpochDay())
+            .add(LocalDate.of(2024, 2, 1).toEpochDay())
+            .build();
+
+        // then
+        assertEquals(1, set.size());
+        assertTrue(set.contains(LocalDate.of(2024, 1, 15)));
+        assertEquals(DaySet.of(List.of(LocalDate.of(2024, 1, 15))), set);
+    }
+}
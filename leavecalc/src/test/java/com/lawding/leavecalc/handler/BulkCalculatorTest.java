@@ -0,0 +1,156 @@
+package com.lawding.leavecalc.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lawding.leavecalc.exception.ErrorCode;
+import com.lawding.leavecalc.handler.BulkCalculator.Format;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.holiday.InMemoryHolidayProvider;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("대량 계산 CLI 단위 테스트")
+class BulkCalculatorTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final HolidayProvider holidays = new InMemoryHolidayProvider(List.of(
+        LocalDate.of(2023, 5, 5), LocalDate.of(2024, 2, 12), LocalDate.of(2024, 5, 6),
+        LocalDate.of(2024, 10, 3), LocalDate.of(2025, 5, 5), LocalDate.of(2025, 10, 6)));
+
+    @Test
+    @DisplayName("여러 스레드로 계산해도 결과는 입력 순서대로, 한 스레드로 계산한 결과와 같다")
+    void preserveInputOrder() throws Exception {
+        // given
+        Random random = new Random(15);
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            LocalDate hireDate = LocalDate.of(2019, 1, 1).plusDays(random.nextInt(2000));
+            LocalDate referenceDate = hireDate.plusDays(random.nextInt(1500));
+            if (i % 97 == 0) {
+                input.append("{\"calculationType\":1,\"referenceDate\":\"2025-01-01\"}\n");
+            } else if (i % 2 == 0) {
+                input.append(String.format(
+                    "{\"calculationType\":1,\"hireDate\":\"%s\",\"referenceDate\":\"%s\"}%n",
+                    hireDate, referenceDate));
+            } else {
+                input.append(String.format("{\"calculationType\":2,\"fiscalYear\":\"01-01\","
+                    + "\"hireDate\":\"%s\",\"referenceDate\":\"%s\"}%n", hireDate, referenceDate));
+            }
+        }
+
+        // when
+        List<JsonNode> parallel = run(new BulkCalculator(mapper, holidays, 4, 8), input,
+            Format.NDJSON);
+        List<JsonNode> sequential = run(new BulkCalculator(mapper, holidays, 1, 1), input,
+            Format.NDJSON);
+
+        // then
+        assertEquals(2000, parallel.size());
+        for (int i = 0; i < parallel.size(); i++) {
+            assertEquals(i, parallel.get(i).get("index").asInt());
+            assertEquals(withoutCalculationId(sequential.get(i)),
+                withoutCalculationId(parallel.get(i)));
+        }
+        assertEquals(ErrorCode.HIRE_DATE_REQUIRED.getCode(),
+            parallel.get(97).get("error").get("code").asText());
+    }
+
+    @Test
+    @DisplayName("CSV 는 헤더의 열 이름으로 값을 읽고, 모르는 열은 무시한다")
+    void readCsv() throws Exception {
+        // given
+        String input = """
+            employeeId,calculationType,fiscalYear,hireDate,referenceDate,companyHolidays,nonWorkingPeriods
+            A-1,2,01-01,2024-04-08,2025-03-02,2024-05-01;2024-10-02,2:2024-06-03~2024-06-05
+            A-2,1,,2021-07-01,2025-08-20,,3:2024-09-02~2024-10-31
+
+            A-3,1,,2021-07-01,2025-08-20,,2-2024-09-02
+            """;
+
+        // when
+        List<JsonNode> outputs = run(new BulkCalculator(mapper, holidays, 2, 4), input,
+            Format.CSV);
+
+        // then
+        assertEquals(3, outputs.size());
+        assertNull(outputs.get(0).get("error"));
+        assertEquals("2024-04-08", outputs.get(0).get("result").get("hireDate").asText());
+        assertEquals(1, outputs.get(0).get("result").get("nonWorkingPeriod").size());
+        assertEquals(2, outputs.get(0).get("result").get("companyHolidays").size());
+        assertNull(outputs.get(1).get("error"));
+        assertEquals(ErrorCode.INVALID_REQUEST_BODY.getCode(),
+            outputs.get(2).get("error").get("code").asText());
+    }
+
+    @Test
+    @DisplayName("계산 중 Error 가 발생한 줄은 실패 항목으로 기록하고 나머지 줄을 계속 처리한다")
+    void recordFailedLine() {
+        // given
+        HolidayProvider failing = period -> {
+            if (period.startDate().getYear() == 2020) {
+                throw new AssertionError("공휴일 조회 실패");
+            }
+            return holidays.findWeekdayHolidays(period);
+        };
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            input.append(String.format(
+                "{\"calculationType\":1,\"hireDate\":\"%d-03-02\",\"referenceDate\":\"%d-09-01\"}%n",
+                i % 3 == 0 ? 2020 : 2023, i % 3 == 0 ? 2020 : 2023));
+        }
+
+        // when
+        List<JsonNode> outputs = assertTimeoutPreemptively(Duration.ofSeconds(30),
+            () -> run(new BulkCalculator(mapper, failing, 2, 2), input, Format.NDJSON));
+
+        // then
+        assertEquals(20, outputs.size());
+        for (int i = 0; i < outputs.size(); i++) {
+            assertEquals(i, outputs.get(i).get("index").asInt());
+            if (i % 3 == 0) {
+                assertEquals(ErrorCode.INTERNAL_SERVER_ERROR.getCode(),
+                    outputs.get(i).get("error").get("code").asText());
+            } else {
+                assertNull(outputs.get(i).get("error"));
+            }
+        }
+    }
+
+    private static List<JsonNode> run(BulkCalculator calculator, CharSequence input,
+        Format format) throws Exception {
+        StringWriter output = new StringWriter();
+        calculator.run(new BufferedReader(new StringReader(input.toString())), output, format);
+        return output.toString().lines().map(line -> {
+            try {
+                return mapper.readTree(line);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+    }
+
+    private static JsonNode withoutCalculationId(JsonNode node) {
+        JsonNode copy = node.deepCopy();
+        if (copy.has("result")) {
+            ((ObjectNode) copy.get("result")).remove("calculationId");
+        }
+        return copy;
+    }
+}
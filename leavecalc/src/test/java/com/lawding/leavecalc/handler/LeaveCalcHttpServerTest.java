@@ -0,0 +1,75 @@
+package com.lawding.leavecalc.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.lawding.leavecalc.resolver.ExplanationCatalog;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HTTP 서버 모드 단위 테스트")
+class LeaveCalcHttpServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private LeaveCalcHttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new LeaveCalcHttpServer(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4,
+            Duration.ofMillis(100), Duration.ZERO, Duration.ofMinutes(1));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("요청을 핸들러로 전달하고 상태 코드, 헤더, 본문을 그대로 응답한다")
+    void routesToHandler() throws Exception {
+        // given
+        URI catalog = uri("/explanations");
+
+        // when
+        HttpResponse<String> first = client.send(HttpRequest.newBuilder(catalog).build(),
+            BodyHandlers.ofString());
+        HttpResponse<String> revalidated = client.send(HttpRequest.newBuilder(catalog)
+            .header("If-None-Match", ExplanationCatalog.etag()).build(), BodyHandlers.ofString());
+        HttpResponse<String> invalid = client.send(HttpRequest.newBuilder(uri("/"))
+            .POST(HttpRequest.BodyPublishers.ofString("{}")).build(), BodyHandlers.ofString());
+
+        // then
+        assertEquals(200, first.statusCode());
+        assertEquals(ExplanationCatalog.json(), first.body());
+        assertEquals(ExplanationCatalog.etag(), first.headers().firstValue("ETag").orElseThrow());
+        assertEquals(304, revalidated.statusCode());
+        assertEquals(400, invalid.statusCode());
+    }
+
+    @Test
+    @DisplayName("상태 확인 경로는 핸들러를 거치지 않고 200 으로 응답한다")
+    void health() throws Exception {
+        // when
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/health")).build(),
+            BodyHandlers.ofString());
+
+        // then
+        assertEquals(200, response.statusCode());
+        assertEquals("OK", response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.port() + path);
+    }
+}
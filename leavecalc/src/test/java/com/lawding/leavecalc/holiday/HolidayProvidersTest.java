@@ -0,0 +1,55 @@
+package com.lawding.leavecalc.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("공휴일 조회 구성 단위 테스트")
+class HolidayProvidersTest {
+
+    private static final InMemoryHolidayProvider holidays = new InMemoryHolidayProvider(List.of(
+        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 5, 6), LocalDate.of(2024, 12, 25),
+        LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 3)));
+
+    @Test
+    @DisplayName("캐시와 지표로 감싸도 원본과 같은 기간의 공휴일을 반환하고, 같은 연도는 원본을 한 번만 조회한다")
+    void composedProviderMatchesSource() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        HolidayProvider counting = period -> {
+            loads.incrementAndGet();
+            return holidays.findWeekdayHolidays(period);
+        };
+        HolidayProvider composed = HolidayProviders.compose(counting, true, true);
+        List<DatePeriod> periods = List.of(
+            new DatePeriod(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 12, 24)),
+            new DatePeriod(LocalDate.of(2024, 5, 6), LocalDate.of(2025, 1, 1)),
+            new DatePeriod(LocalDate.of(2024, 12, 31), LocalDate.of(2025, 3, 2)),
+            new DatePeriod(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 28)));
+
+        // when & then
+        assertInstanceOf(MetricsHolidayProvider.class, composed);
+        for (DatePeriod period : periods) {
+            assertEquals(Set.copyOf(holidays.findWeekdayHolidays(period)),
+                composed.findWeekdayHolidays(period));
+        }
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("메모리 공휴일 목록은 형식이 잘못된 날짜를 제외한다")
+    void parseDates() {
+        // when
+        List<LocalDate> dates = HolidayProviders.parseDates("2025-01-01, 2025-13-01,,2025-03-03");
+
+        // then
+        assertEquals(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 3)), dates);
+    }
+}
@@ -0,0 +1,74 @@
+package com.lawding.leavecalc.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.exception.AnnualLeaveException;
+import com.lawding.leavecalc.exception.ErrorCode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("공휴일 스냅샷 조회 단위 테스트")
+class HolidaySnapshotProviderTest {
+
+    private static final List<LocalDate> HOLIDAYS = List.of(
+        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 5, 6),
+        LocalDate.of(2024, 12, 25), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 25));
+
+    private final HolidaySnapshotProvider provider = new HolidaySnapshotProvider(
+        HolidaySnapshot.of(2024, 2025, HOLIDAYS));
+
+    @Test
+    @DisplayName("조회 범위는 DB 조회와 같이 시작일부터 종료일 다음날까지이다")
+    void matchesJdbcRange() {
+        // given
+        List<DatePeriod> periods = List.of(
+            period("2024-01-01", "2024-12-31"),
+            period("2024-02-28", "2024-02-28"),
+            period("2024-05-07", "2024-12-23"),
+            period("2024-12-26", "2024-12-31"),
+            period("2024-05-06", "2024-05-05"),
+            period("2024-06-01", "2024-05-30"),
+            period("2024-03-01", "2025-12-24"));
+
+        // when & then
+        for (DatePeriod period : periods) {
+            assertEquals(jdbcBetween(period), provider.findWeekdayHolidays(period),
+                period.toString());
+        }
+        assertEquals(Set.of(LocalDate.of(2025, 1, 1)),
+            provider.findWeekdayHolidays(period("2024-12-26", "2024-12-31")));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 다루지 않는 연도가 조회 범위에 포함되면 실패한다")
+    void failOutOfRange() {
+        // when & then
+        for (DatePeriod period : List.of(period("2023-12-31", "2024-06-30"),
+            period("2025-06-01", "2025-12-31"), period("2026-01-01", "2026-12-30"))) {
+            AnnualLeaveException exception = assertThrows(AnnualLeaveException.class,
+                () -> provider.findWeekdayHolidays(period));
+            assertEquals(ErrorCode.HOLIDAY_SNAPSHOT_OUT_OF_RANGE, exception.getErrorCode());
+        }
+    }
+
+    /**
+     * HolidayJdbcRepository 의 "holiday_date BETWEEN 시작일 AND 종료일 다음날" 조회와 같은 결과
+     */
+    private static Set<LocalDate> jdbcBetween(DatePeriod period) {
+        LocalDate from = period.startDate();
+        LocalDate to = period.endDate().plusDays(1);
+        return HOLIDAYS.stream()
+            .filter(day -> !day.isBefore(from) && !day.isAfter(to))
+            .collect(Collectors.toSet());
+    }
+
+    private static DatePeriod period(String startDate, String endDate) {
+        return new DatePeriod(LocalDate.parse(startDate), LocalDate.parse(endDate));
+    }
+}
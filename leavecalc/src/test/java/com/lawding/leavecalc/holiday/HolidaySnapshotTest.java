@@ -0,0 +1,119 @@
+package com.lawding.leavecalc.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("공휴일 스냅샷 단위 테스트")
+class HolidaySnapshotTest {
+
+    private static final List<LocalDate> HOLIDAYS = List.of(
+        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 12, 31),
+        LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+
+    @Test
+    @DisplayName("헤더(magic, 버전, 시작 연도, 연도 수) 뒤에 연도마다 366비트(long 6개) 비트맵을 기록한다")
+    void writeHeaderAndBitmaps() throws IOException {
+        // when
+        byte[] bytes = write(HolidaySnapshot.of(2024, 2025, HOLIDAYS));
+
+        // then
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+        assertEquals("HOLS", new String(data.readNBytes(4), StandardCharsets.US_ASCII));
+        assertEquals(1, data.readByte());
+        assertEquals(2024, data.readShort());
+        assertEquals(2, data.readShort());
+        assertEquals(4 + 1 + 2 + 2 + 2 * 6 * Long.BYTES, bytes.length);
+
+        // 1월 1일: 0번, 2월 29일: 59번, 윤년 12월 31일: 365번(6번째 long 의 45번) 비트
+        assertArrayEquals(new long[]{1L | 1L << 59, 0, 0, 0, 0, 1L << 45}, readWords(data));
+        // 평년 12월 31일: 364번(6번째 long 의 44번) 비트
+        assertArrayEquals(new long[]{1L, 0, 0, 0, 0, 1L << 44}, readWords(data));
+    }
+
+    @Test
+    @DisplayName("쓰고 다시 읽은 스냅샷은 원래 공휴일을 그대로 돌려준다")
+    void roundTrip() throws IOException {
+        // given
+        HolidaySnapshot snapshot = HolidaySnapshot.of(2024, 2025, HOLIDAYS);
+
+        // when
+        HolidaySnapshot read = HolidaySnapshot.read(new ByteArrayInputStream(write(snapshot)));
+
+        // then
+        assertEquals(2024, read.firstYear());
+        assertEquals(2025, read.lastYear());
+        assertEquals(Set.copyOf(HOLIDAYS),
+            read.holidaysBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31)));
+        assertEquals(Set.of(LocalDate.of(2024, 2, 29)),
+            read.holidaysBetween(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 12, 30)));
+    }
+
+    @Test
+    @DisplayName("magic 이나 버전이 다르면 읽지 않는다")
+    void rejectUnknownFormat() throws IOException {
+        // given
+        byte[] bytes = write(HolidaySnapshot.of(2024, 2024, List.of()));
+        byte[] badMagic = bytes.clone();
+        badMagic[0] = 'X';
+        byte[] badVersion = bytes.clone();
+        badVersion[4] = 2;
+
+        // when & then
+        assertThrows(IOException.class,
+            () -> HolidaySnapshot.read(new ByteArrayInputStream(badMagic)));
+        assertThrows(IOException.class,
+            () -> HolidaySnapshot.read(new ByteArrayInputStream(badVersion)));
+    }
+
+    @Test
+    @DisplayName("원본 파일이 요구하는 연도까지 포함하지 않으면 스냅샷을 만들지 않는다")
+    void encodeRequiresLastYear(@TempDir Path dir) throws IOException {
+        // given
+        Path source = dir.resolve("holidays.txt");
+        Files.writeString(source, "# 주석\n2026-01-01 신정\n2026-12-25 성탄절\n");
+        Path target = dir.resolve("holidays/holidays.bin");
+
+        // when & then
+        assertThrows(IllegalStateException.class,
+            () -> HolidaySnapshotExporter.encode(source, target, 2027));
+        assertTrue(Files.notExists(target));
+
+        HolidaySnapshotExporter.encode(source, target, 2026);
+        try (InputStream in = Files.newInputStream(target)) {
+            assertEquals(Set.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 25)),
+                HolidaySnapshot.read(in)
+                    .holidaysBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)));
+        }
+    }
+
+    private static byte[] write(HolidaySnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.write(out);
+        return out.toByteArray();
+    }
+
+    private static long[] readWords(DataInputStream data) throws IOException {
+        long[] words = new long[6];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = data.readLong();
+        }
+        return words;
+    }
+}
@@ -0,0 +1,50 @@
+package com.lawding.leavecalc.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lawding.leavecalc.metrics.StageMetrics.Stage;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("단계별 지표 단위 테스트")
+class StageMetricsTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("기록한 단계만 마이크로초 지표로, 산정 방식과 연차 유형을 차원으로 EMF 에 담는다")
+    void toEmf() throws Exception {
+        // given
+        StageMetrics metrics = StageMetrics.start();
+        StageMetrics.record(Stage.FLOW, StageMetrics.now());
+        StageMetrics.dimensions("HIRE_DATE", "ANNUAL");
+        metrics.add(Stage.JSON_PARSE, 1_500);
+        metrics.add(Stage.JSON_PARSE, 500);
+
+        // when
+        JsonNode emf = mapper.readTree(metrics.toEmf(1_700_000_000_000L, "req-1"));
+
+        // then
+        JsonNode directive = emf.get("_aws").get("CloudWatchMetrics").get(0);
+        assertEquals(1_700_000_000_000L, emf.get("_aws").get("Timestamp").asLong());
+        assertEquals("[[\"CalculationType\",\"LeaveType\"]]",
+            directive.get("Dimensions").toString());
+        List<String> names = new ArrayList<>();
+        directive.get("Metrics").forEach(metric -> {
+            names.add(metric.get("Name").asText());
+            assertEquals("Microseconds", metric.get("Unit").asText());
+        });
+        assertEquals(List.of("JsonParse", "Flow"), names);
+        assertEquals(2.0, emf.get("JsonParse").asDouble());
+        assertEquals("HIRE_DATE", emf.get("CalculationType").asText());
+        assertEquals("ANNUAL", emf.get("LeaveType").asText());
+        assertEquals("req-1", emf.get("requestId").asText());
+        assertFalse(emf.has("Mapping"));
+        metrics.finish("req-1");
+    }
+}
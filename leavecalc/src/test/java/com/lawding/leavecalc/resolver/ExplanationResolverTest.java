@@ -0,0 +1,92 @@
+package com.lawding.leavecalc.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lawding.leavecalc.domain.CalculationType;
+import com.lawding.leavecalc.domain.FlowStep;
+import com.lawding.leavecalc.dto.request.NonWorkingPeriodDto;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("안내 문구 단위 테스트")
+class ExplanationResolverTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("같은 유형의 특이사항 기간이 여러 개여도 안내 문구는 한 번만 포함한다")
+    void deduplicateNonWorkingExplanations() {
+        // given
+        List<NonWorkingPeriodDto> periods = List.of(
+            new NonWorkingPeriodDto(2, "2024-06-03", "2024-06-05"),
+            new NonWorkingPeriodDto(3, "2024-07-01", "2024-07-31"),
+            new NonWorkingPeriodDto(2, "2024-08-05", "2024-08-06"),
+            new NonWorkingPeriodDto(2, "2024-09-02", "2024-09-02"),
+            new NonWorkingPeriodDto(3, "2024-10-01", "2024-10-31"));
+
+        // when
+        List<String> messages = ExplanationResolver.resolveNonWorkingExplanations(periods, 2,
+            0.95);
+
+        // then
+        assertEquals(List.of(Explanation.ABSENCE_AFTER_ONE_YEAR.message(),
+            Explanation.EXCLUDED_OVER_PWR.message()), messages);
+    }
+
+    @Test
+    @DisplayName("미리 인코딩한 문구는 Jackson 이 문자열을 인코딩한 결과와 같다")
+    void preEncodedJsonMatchesJackson() throws Exception {
+        for (Explanation explanation : Explanation.values()) {
+            // given
+            String expected = mapper.writeValueAsString(explanation.message());
+
+            // when
+            StringWriter chars = new StringWriter();
+            try (JsonGenerator gen = mapper.getFactory().createGenerator(chars)) {
+                gen.writeString(explanation.json());
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (JsonGenerator gen = mapper.getFactory().createGenerator(bytes)) {
+                gen.writeString(explanation.json());
+            }
+
+            // then
+            assertEquals(expected, chars.toString());
+            assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+        }
+        for (FlowStep step : FlowStep.values()) {
+            for (CalculationType type : CalculationType.values()) {
+                Explanation explanation = Explanation.of(step, type);
+                assertEquals(explanation == null ? "" : explanation.message(),
+                    ExplanationResolver.resolve(step, type));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("안내 코드 목록은 모든 코드의 문구를 담고, ETag 가 같으면 변경 없음으로 본다")
+    void catalog() throws Exception {
+        // given
+        JsonNode catalog = mapper.readTree(ExplanationCatalog.json());
+        String etag = ExplanationCatalog.etag();
+
+        // when & then
+        assertEquals(Explanation.values().length, catalog.size());
+        for (Explanation explanation : Explanation.values()) {
+            assertEquals(explanation.message(), catalog.get(explanation.code()).asText());
+        }
+        assertTrue(ExplanationCatalog.matches(etag));
+        assertTrue(ExplanationCatalog.matches("\"old\", W/" + etag));
+        assertFalse(ExplanationCatalog.matches("\"old\""));
+        assertFalse(ExplanationCatalog.matches(null));
+    }
+}
@@ -0,0 +1,130 @@
+package com.lawding.leavecalc.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.domain.CalculationType;
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.dto.AnnualLeaveResponse;
+import com.lawding.leavecalc.dto.BatchItemResponse;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.holiday.InMemoryHolidayProvider;
+import com.lawding.leavecalc.resolver.Explanation;
+import com.lawding.leavecalc.resolver.ExplanationFormat;
+import com.lawding.leavecalc.strategy.factory.CalculationStrategyFactory;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("응답 직렬화 단위 테스트")
+class AnnualLeaveResponseSerializerTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static AnnualLeaveContext randomContext(Random random) {
+        LocalDate hireDate = LocalDate.of(2015, 1, 1).plusDays(random.nextInt(3500));
+        LocalDate referenceDate = hireDate.plusDays(random.nextInt(random.nextBoolean() ? 400
+            : 3000));
+        Map<Integer, List<DatePeriod>> nonWorkingPeriods = new HashMap<>();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            LocalDate start = hireDate.plusDays(random.nextInt(400));
+            nonWorkingPeriods.computeIfAbsent(1 + random.nextInt(3), type -> new ArrayList<>())
+                .add(new DatePeriod(start, start.plusDays(random.nextInt(90))));
+        }
+        List<LocalDate> companyHolidays = new ArrayList<>();
+        for (int i = random.nextInt(3); i > 0; i--) {
+            companyHolidays.add(hireDate.plusDays(random.nextInt(400)));
+        }
+        boolean fiscalYear = random.nextBoolean();
+        return AnnualLeaveContext.builder()
+            .calculationType(fiscalYear ? CalculationType.FISCAL_YEAR : CalculationType.HIRE_DATE)
+            .fiscalYear(fiscalYear ? MonthDay.of(1 + random.nextInt(12), 1) : null)
+            .hireDate(hireDate)
+            .referenceDate(referenceDate)
+            .nonWorkingPeriods(nonWorkingPeriods)
+            .companyHolidays(companyHolidays)
+            .build();
+    }
+
+    @Test
+    @DisplayName("직접 직렬화한 결과는 ObjectMapper 직렬화 결과와 같다")
+    void sameAsObjectMapper() throws Exception {
+        // given
+        Random random = new Random(17);
+        Set<LocalDate> holidays = new HashSet<>();
+        for (int i = 0; i < 300; i++) {
+            holidays.add(LocalDate.of(2014, 1, 1).plusDays(random.nextInt(4800)));
+        }
+        HolidayProvider holidayProvider = new InMemoryHolidayProvider(holidays);
+        Set<String> leaveTypes = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            AnnualLeaveContext context = randomContext(random);
+            AnnualLeaveResponse response = AnnualLeaveResponse.of(
+                CalculationStrategyFactory.from(context, holidayProvider)
+                    .annualLeaveCalculate(context), "id-\"" + i + "\"");
+            leaveTypes.add(response.leaveType());
+
+            // when
+            String json = AnnualLeaveResponseSerializer.toJson(response);
+
+            // then
+            assertEquals(mapper.writeValueAsString(response), json);
+        }
+        assertEquals(Set.of("MONTHLY", "ANNUAL", "PRORATED", "MONTHLY_AND_PRORATED"), leaveTypes);
+    }
+
+    @Test
+    @DisplayName("일괄 계산 응답 배열도 ObjectMapper 직렬화 결과와 같다")
+    void batchSameAsObjectMapper() throws Exception {
+        // given
+        AnnualLeaveResponse empty = new AnnualLeaveResponse("id", "", null, "2024-01-01",
+            "2025-01-01", List.of(), null, null, null, List.of(), null);
+        List<BatchItemResponse> responses = List.of(
+            BatchItemResponse.success(0, empty),
+            BatchItemResponse.failure(1, "E100", "입사일은 필수 항목입니다."),
+            BatchItemResponse.failure(2, "E999", null));
+
+        // when
+        String json = AnnualLeaveResponseSerializer.toJson(responses);
+
+        // then
+        assertEquals(mapper.writeValueAsString(responses), json);
+    }
+
+    @Test
+    @DisplayName("코드 응답 모드에서는 안내 문구 대신 안내 코드를 기록하고, 목록에 없는 문구는 그대로 기록한다")
+    void writeExplanationCodes() throws Exception {
+        // given
+        AnnualLeaveResponse response = new AnnualLeaveResponse("id", "HIRE_DATE", null,
+            "2021-07-01", "2025-08-20", List.of(), null, "ANNUAL", null,
+            List.of(Explanation.AFTER_ONE_YEAR_HIRE_DATE.message(),
+                Explanation.SERVICE_YEARS_3_PLUS_HIRE_DATE.message()),
+            List.of(Explanation.ABSENCE_AFTER_ONE_YEAR.message(), "기타 안내"));
+
+        // when
+        JsonNode json = mapper.readTree(
+            AnnualLeaveResponseSerializer.toJson(response, ExplanationFormat.CODE));
+
+        // then
+        assertEquals("[\"AFTER_ONE_YEAR.HD\",\"SERVICE_YEARS_3_PLUS.HD\"]",
+            json.get("explanations").toString());
+        assertEquals("[\"NW2.AFTER_ONE_YEAR\",\"기타 안내\"]",
+            json.get("nonWorkingExplanations").toString());
+        assertEquals("2021-07-01", json.get("hireDate").asText());
+    }
+}
@@ -0,0 +1,112 @@
+package com.lawding.leavecalc.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lawding.leavecalc.domain.AnnualLeaveContext;
+import com.lawding.leavecalc.dto.BatchItemResponse;
+import com.lawding.leavecalc.dto.request.AnnualLeaveRequest;
+import com.lawding.leavecalc.exception.AnnualLeaveException;
+import com.lawding.leavecalc.exception.ErrorCode;
+import com.lawding.leavecalc.holiday.HolidayProvider;
+import com.lawding.leavecalc.holiday.InMemoryHolidayProvider;
+import com.lawding.leavecalc.mapper.AnnualLeaveMapper;
+import com.lawding.leavecalc.strategy.factory.CalculationStrategyFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("일괄 계산 서비스 단위 테스트")
+class AnnualLeaveBatchServiceTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final HolidayProvider holidays = new InMemoryHolidayProvider(List.of(
+        LocalDate.of(2023, 5, 5), LocalDate.of(2023, 10, 3), LocalDate.of(2024, 2, 12),
+        LocalDate.of(2024, 5, 6), LocalDate.of(2024, 10, 3), LocalDate.of(2025, 5, 5),
+        LocalDate.of(2025, 10, 6)));
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("항목별로 검증하고, 결과는 요청 순서대로 단건 계산과 같은 값을 반환한다")
+    void calculateInInputOrder() throws Exception {
+        // given
+        AtomicInteger fetches = new AtomicInteger();
+        HolidayProvider countingProvider = period -> {
+            fetches.incrementAndGet();
+            return holidays.findWeekdayHolidays(period);
+        };
+        AnnualLeaveBatchService service = new AnnualLeaveBatchService(mapper, countingProvider,
+            executor, 100);
+        String body = """
+            [{"calculationType":1,"hireDate":"2024-03-15","referenceDate":"2025-01-10"},
+             {"calculationType":1,"referenceDate":"2025-01-10"},
+             {"calculationType":2,"fiscalYear":"01-01","hireDate":"2021-07-01",
+              "referenceDate":"2025-08-20",
+              "nonWorkingPeriods":[{"type":2,"startDate":"2024-06-03","endDate":"2024-06-05"}]},
+             {"calculationType":9,"hireDate":"2024-03-15","referenceDate":"2025-01-10"},
+             {"calculationType":1,"hireDate":"2024-03-15","referenceDate":"2025-13-01"},
+             {"calculationType":2,"fiscalYear":"03-01","hireDate":"2024-04-08",
+              "referenceDate":"2025-03-02","companyHolidays":["2024-05-01"]}]""";
+
+        // when
+        List<BatchItemResponse> responses = service.calculate(mapper.readTree(body));
+
+        // then
+        assertEquals(6, responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals(i, responses.get(i).index());
+        }
+        assertEquals(ErrorCode.HIRE_DATE_REQUIRED.getCode(), responses.get(1).error().code());
+        assertEquals(ErrorCode.INVALID_CALCULATION_TYPE.getCode(),
+            responses.get(3).error().code());
+        assertEquals(ErrorCode.INVALID_REQUEST_BODY.getCode(), responses.get(4).error().code());
+        for (int i : new int[]{0, 2, 5}) {
+            BatchItemResponse response = responses.get(i);
+            assertNull(response.error());
+            assertNotNull(response.result());
+            assertEquals(calculateSingle(mapper.readTree(body).get(i).toString()),
+                mapper.writeValueAsString(response.result().calculationDetail()));
+        }
+        // 기준일이 가까운 항목은 공휴일을 한 번만 조회
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘는 요청은 전체를 거절한다")
+    void rejectOversizedBatch() throws Exception {
+        // given
+        AnnualLeaveBatchService service = new AnnualLeaveBatchService(mapper, holidays,
+            executor, 1);
+
+        // when & then
+        AnnualLeaveException exception = assertThrows(AnnualLeaveException.class,
+            () -> service.calculate(mapper.readTree("[{},{}]")));
+        assertEquals(ErrorCode.BATCH_SIZE_EXCEEDED, exception.getErrorCode());
+    }
+
+    private static String calculateSingle(String body) throws Exception {
+        AnnualLeaveContext context = AnnualLeaveMapper.toContext(
+            mapper.readValue(body, AnnualLeaveRequest.class));
+        return mapper.writeValueAsString(CalculationStrategyFactory.from(context, holidays)
+            .annualLeaveCalculate(context).calculationDetail());
+    }
+}
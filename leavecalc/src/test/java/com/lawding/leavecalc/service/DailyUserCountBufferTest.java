@@ -0,0 +1,103 @@
+package com.lawding.leavecalc.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.lawding.leavecalc.domain.DailyUserCount;
+import com.lawding.leavecalc.repository.InMemoryDailyUserRepository;
+import com.lawding.leavecalc.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("플랫폼 요청 수 버퍼 단위 테스트")
+class DailyUserCountBufferTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    @Test
+    @DisplayName("반영 주기가 지나면 쌓인 건수가 적어도 반영한다")
+    void flushAfterInterval() {
+        // given
+        InMemoryDailyUserRepository repository = new InMemoryDailyUserRepository();
+        DailyUserCountBuffer buffer = new DailyUserCountBuffer(repository, Duration.ofSeconds(60),
+            100, clock);
+        buffer.increment("web");
+        buffer.increment("ios");
+
+        // when & then
+        clock.advance(Duration.ofSeconds(59));
+        buffer.flushIfDue();
+        assertEquals(2, buffer.pendingCount());
+        assertEquals(List.of(), repository.findCounts(TODAY, TODAY));
+
+        clock.advance(Duration.ofSeconds(1));
+        buffer.flushIfDue();
+        assertEquals(0, buffer.pendingCount());
+        assertEquals(List.of(new DailyUserCount(TODAY, 1, 1)),
+            repository.findCounts(TODAY, TODAY));
+    }
+
+    @Test
+    @DisplayName("쌓인 건수가 임계값 이상이면 반영 주기 전이라도 반영한다")
+    void flushAtThreshold() {
+        // given
+        InMemoryDailyUserRepository repository = new InMemoryDailyUserRepository();
+        DailyUserCountBuffer buffer = new DailyUserCountBuffer(repository, Duration.ofHours(1), 3,
+            clock);
+
+        // when & then
+        buffer.increment("web");
+        buffer.increment("web");
+        buffer.flushIfDue();
+        assertEquals(2, buffer.pendingCount());
+
+        buffer.increment("ios");
+        buffer.flushIfDue();
+        assertEquals(0, buffer.pendingCount());
+        assertEquals(List.of(new DailyUserCount(TODAY, 2, 1)),
+            repository.findCounts(TODAY, TODAY));
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 건수는 버퍼로 되돌려 다음 반영 때 함께 반영한다")
+    void restoreCountsAfterFailedFlush() {
+        // given
+        FailingOnceRepository repository = new FailingOnceRepository();
+        DailyUserCountBuffer buffer = new DailyUserCountBuffer(repository, Duration.ofHours(1),
+            100, clock);
+        buffer.increment("web");
+        buffer.increment("ios");
+
+        // when
+        buffer.flushQuietly();
+        buffer.increment("web");
+        long pendingAfterFailure = buffer.pendingCount();
+        buffer.flushQuietly();
+
+        // then
+        assertEquals(3, pendingAfterFailure);
+        assertEquals(0, buffer.pendingCount());
+        assertEquals(List.of(new DailyUserCount(TODAY, 2, 1)),
+            repository.findCounts(TODAY, TODAY));
+    }
+
+    private static final class FailingOnceRepository extends InMemoryDailyUserRepository {
+
+        private boolean failed;
+
+        @Override
+        public void addCounts(Collection<DailyUserCount> increments) {
+            if (!failed) {
+                failed = true;
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            super.addCounts(increments);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.lawding.leavecalc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.lawding.leavecalc.domain.DatePeriod;
+import com.lawding.leavecalc.domain.DaySet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("기간 구간 병합 단위 테스트")
+class DayIntervalsTest {
+
+    private static final DatePeriod ACCRUAL_PERIOD = new DatePeriod(
+        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+    @Test
+    @DisplayName("겹치거나 맞닿은 기간은 병합하고 산정 기간으로 잘라낸다")
+    void mergeAndClip() {
+        // given
+        List<DatePeriod> periods = List.of(
+            new DatePeriod(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 20)),
+            new DatePeriod(LocalDate.of(2023, 12, 1), LocalDate.of(2024, 1, 10)),
+            new DatePeriod(LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 31)),
+            new DatePeriod(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 5)),
+            new DatePeriod(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 5))
+        );
+
+        // when
+        DayIntervals intervals = DayIntervals.of(periods, ACCRUAL_PERIOD);
+
+        // then
+        assertEquals(2, intervals.size()); // [1/1, 1/10], [3/1, 4/5]
+        assertFalse(intervals.contains(LocalDate.of(2023, 12, 31)));
+        assertTrue(intervals.contains(LocalDate.of(2024, 4, 5)));
+        assertFalse(intervals.contains(LocalDate.of(2024, 4, 6)));
+    }
+
+    @Test
+    @DisplayName("구간별 소정근로일 수 합은 날짜 집합의 크기와 같다")
+    void countMatchesWorkingDaySet() {
+        // given
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(
+            Set.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1)));
+        List<DatePeriod> periods = List.of(
+            new DatePeriod(LocalDate.of(2023, 12, 20), LocalDate.of(2024, 2, 10)),
+            new DatePeriod(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 15))
+        );
+
+        // when
+        DayIntervals intervals = DayIntervals.of(periods, ACCRUAL_PERIOD);
+        DaySet workingDays = intervals.workingDays(calendar);
+
+        // then
+        long expected = LocalDate.of(2024, 1, 1).datesUntil(LocalDate.of(2024, 3, 16))
+            .filter(calendar::isWorkingDay)
+            .count();
+        assertEquals(expected, intervals.countWorkingDays(calendar));
+        assertEquals(expected, workingDays.size());
+    }
+}
@@ -0,0 +1,22 @@
+package com.lawding.leavecalc.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("환경변수 읽기 단위 테스트")
+class EnvUtilsTest {
+
+    @Test
+    @DisplayName("true/false 가 아닌 값은 기본값을 사용한다")
+    void parseBoolean() {
+        assertFalse(EnvUtils.parseBoolean("DAILY_USER_RECORDING", " FALSE ", true));
+        assertTrue(EnvUtils.parseBoolean("DAILY_USER_RECORDING", "True", false));
+        assertTrue(EnvUtils.parseBoolean("DAILY_USER_RECORDING", "1", true));
+        assertTrue(EnvUtils.parseBoolean("DAILY_USER_RECORDING", "yes", true));
+        assertTrue(EnvUtils.parseBoolean("DAILY_USER_RECORDING", "flase", true));
+        assertFalse(EnvUtils.parseBoolean("HOLIDAY_CACHE_ENABLED", null, false));
+    }
+}
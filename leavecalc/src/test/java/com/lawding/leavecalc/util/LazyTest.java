@@ -0,0 +1,51 @@
+package com.lawding.leavecalc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("지연 초기화 단위 테스트")
+class LazyTest {
+
+    @Test
+    @DisplayName("초기화에 실패하면 캐시하지 않고 다음 호출에서 다시 시도한다")
+    void retryAfterFailure() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        Lazy<String> lazy = Lazy.of("test", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("환경변수 누락");
+            }
+            return "ready";
+        });
+
+        // when & then
+        assertThrows(IllegalStateException.class, lazy::get);
+        assertFalse(lazy.isInitialized());
+        assertEquals("ready", lazy.get());
+        assertEquals("ready", lazy.get());
+        assertTrue(lazy.isInitialized());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("ifInitialized 는 값을 만들지 않는다")
+    void ifInitializedDoesNotCreate() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        Lazy<Integer> lazy = Lazy.of("test", attempts::incrementAndGet);
+
+        // when
+        lazy.ifInitialized(value -> {
+            throw new AssertionError("초기화 전에는 실행되지 않아야 합니다.");
+        });
+
+        // then
+        assertEquals(0, attempts.get());
+    }
+}
@@ -0,0 +1,52 @@
+package com.lawding.leavecalc.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+@DisplayName("요청 단위 로그 레벨 정책 단위 테스트")
+class RequestLogPolicyTest {
+
+    private static final Logger logger = LogUtil.getLogger(RequestLogPolicyTest.class);
+
+    @AfterEach
+    void tearDown() {
+        LogUtil.clearLogging();
+    }
+
+    @Test
+    @DisplayName("허용 목록에 있는 헤더 값이거나 표본으로 뽑힌 요청만 DEBUG 로 기록한다")
+    void debugEnabled() {
+        // given
+        Set<String> tokens = RequestLogPolicy.parseTokens(" alpha , ,beta");
+
+        // when & then
+        assertTrue(RequestLogPolicy.debugEnabled("beta", tokens, 0, 0.5));
+        assertFalse(RequestLogPolicy.debugEnabled("gamma", tokens, 0, 0.5));
+        assertFalse(RequestLogPolicy.debugEnabled("", Set.of(), 0, 0.0));
+        assertTrue(RequestLogPolicy.debugEnabled(null, tokens, 0.1, 0.05));
+        assertFalse(RequestLogPolicy.debugEnabled(null, tokens, 0.1, 0.5));
+    }
+
+    @Test
+    @DisplayName("DEBUG 요청에서만 애플리케이션 로거의 DEBUG 가 활성화된다")
+    void requestLogLevel() {
+        // given
+        LogUtil.setupLogging("req-info", false);
+
+        // when & then
+        assertFalse(logger.isDebugEnabled());
+
+        LogUtil.setupLogging("req-debug", true);
+        assertTrue(logger.isDebugEnabled());
+        assertFalse(logger.isTraceEnabled());
+
+        LogUtil.clearLogging();
+        assertFalse(logger.isDebugEnabled());
+    }
+}
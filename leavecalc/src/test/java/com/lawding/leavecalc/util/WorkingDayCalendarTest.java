@@ -0,0 +1,74 @@
+package com.lawding.leavecalc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("소정근로일 누적합 달력 단위 테스트")
+class WorkingDayCalendarTest {
+
+    private static final Set<LocalDate> HOLIDAYS_2024 = Set.of(
+        LocalDate.of(2024, 1, 1),
+        LocalDate.of(2024, 2, 9),
+        LocalDate.of(2024, 2, 10), // 토요일
+        LocalDate.of(2024, 2, 12),
+        LocalDate.of(2024, 3, 1),
+        LocalDate.of(2024, 5, 6),
+        LocalDate.of(2024, 12, 25)
+    );
+
+    @Test
+    @DisplayName("기간 내 소정근로일 수는 날짜를 하나씩 세는 결과와 같다")
+    void countMatchesDayByDayEnumeration() {
+        // given
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(HOLIDAYS_2024);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 2000; i++) {
+            LocalDate start = LocalDate.of(2022, 1, 1).plusDays(random.nextInt(1500));
+            LocalDate end = start.plusDays(random.nextInt(800));
+
+            // when
+            int count = calendar.countWorkingDays(start, end);
+
+            // then
+            long expected = start.datesUntil(end.plusDays(1))
+                .filter(AnnualLeaveHelper::isWeekday)
+                .filter(day -> !HOLIDAYS_2024.contains(day))
+                .count();
+            assertEquals(expected, count, start + " ~ " + end);
+        }
+    }
+
+    @Test
+    @DisplayName("지원 범위를 벗어난 기간도 평일 수를 계산한다")
+    void countOutsideSupportedRange() {
+        // given
+        LocalDate start = LocalDate.of(2100, 12, 1);
+        LocalDate end = LocalDate.of(2101, 1, 31);
+
+        // when
+        int count = WorkingDayCalendar.WEEKDAYS_ONLY.countWorkingDays(start, end);
+
+        // then
+        long expected = start.datesUntil(end.plusDays(1))
+            .filter(AnnualLeaveHelper::isWeekday)
+            .count();
+        assertEquals(expected, count);
+    }
+
+    @Test
+    @DisplayName("평일 공휴일은 소정근로일이 아니다")
+    void holidayIsNotWorkingDay() {
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(HOLIDAYS_2024);
+
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 2, 9)));
+        assertEquals(0, calendar.countWorkingDays(LocalDate.of(2024, 2, 9),
+            LocalDate.of(2024, 2, 8)));
+    }
+}